@@ -1,21 +1,60 @@
 -- Database initialization script for dropout prevention system
 -- Run automatically when PostgreSQL container starts
 
+-- Id sequences used by the JPA mappings (pooled, allocationSize 50)
+-- Existing databases created with SERIAL ids: run migrate_id_sequences.sql instead
+CREATE SEQUENCE IF NOT EXISTS student_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS intervention_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS rescore_checkpoint_seq START WITH 1 INCREMENT BY 50;
+
+-- Create students table
+CREATE TABLE IF NOT EXISTS students (
+    id BIGINT PRIMARY KEY,
+    student_id VARCHAR(50) NOT NULL UNIQUE,
+    district VARCHAR(100) NOT NULL,
+    attendance_rate DOUBLE PRECISION NOT NULL,
+    exam_score DOUBLE PRECISION NOT NULL,
+    socio_economic_status VARCHAR(20) NOT NULL,
+    transport_allowance_used BOOLEAN NOT NULL,
+    migration_indicator INTEGER NOT NULL,
+    gender VARCHAR(10) NOT NULL,
+    social_category VARCHAR(20) NOT NULL,
+    dropout_risk VARCHAR(20) NOT NULL,
+    risk_probability DOUBLE PRECISION,
+    risk_score DOUBLE PRECISION,
+    predicted_label VARCHAR(20)
+);
+
 -- Create interventions table
 CREATE TABLE IF NOT EXISTS interventions (
-    id SERIAL PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     student_id VARCHAR(50) NOT NULL,
     intervention_type VARCHAR(100) NOT NULL,
     intervention_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     description TEXT,
-    assigned_to VARCHAR(100),
-    status VARCHAR(50) DEFAULT 'pending',
+    actioned_by VARCHAR(100),
+    status VARCHAR(50) NOT NULL DEFAULT 'pending',
     district VARCHAR(100),
-    risk_score DECIMAL(5,2),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    risk_score DOUBLE PRECISION,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Create rescore checkpoints table (batch re-scoring progress)
+CREATE TABLE IF NOT EXISTS rescore_checkpoints (
+    id BIGINT PRIMARY KEY,
+    run_id VARCHAR(36) NOT NULL,
+    partition_no INTEGER NOT NULL,
+    end_id BIGINT NOT NULL,
+    last_id BIGINT NOT NULL,
+    model_version BIGINT,
+    processed BIGINT NOT NULL,
+    changed BIGINT NOT NULL,
+    done BOOLEAN NOT NULL,
+    started_at TIMESTAMP,
+    updated_at TIMESTAMP
+);
+
 -- Create audit logs table
 CREATE TABLE IF NOT EXISTS audit_logs (
     id SERIAL PRIMARY KEY,
@@ -48,6 +87,12 @@ CREATE TABLE IF NOT EXISTS district_stats (
 );
 
 -- Create indexes for better query performance
+CREATE INDEX idx_district ON students(district);
+CREATE INDEX idx_dropout_risk ON students(dropout_risk);
+
+CREATE INDEX idx_rescore_run ON rescore_checkpoints(run_id);
+CREATE INDEX idx_rescore_done ON rescore_checkpoints(done);
+
 CREATE INDEX idx_interventions_student_id ON interventions(student_id);
 CREATE INDEX idx_interventions_date ON interventions(intervention_date);
 CREATE INDEX idx_interventions_district ON interventions(district);
@@ -76,11 +121,11 @@ CREATE TRIGGER update_interventions_updated_at BEFORE UPDATE ON interventions
 -- Insert sample data for testing (optional)
 -- Uncomment if you want some test data
 
--- INSERT INTO interventions (student_id, intervention_type, description, assigned_to, district, risk_score)
+-- INSERT INTO interventions (id, student_id, intervention_type, description, actioned_by, district, risk_score)
 -- VALUES 
---     ('STU001', 'Counseling', 'Schedule counseling session for attendance issues', 'Teacher Rao', 'Visakhapatnam', 85.5),
---     ('STU002', 'Transport Support', 'Provide transport allowance', 'Admin Kumar', 'Vijayawada', 78.2),
---     ('STU003', 'Academic Support', 'Extra tutoring for math and science', 'Teacher Devi', 'Guntur', 92.1);
+--     (nextval('intervention_seq'), 'STU001', 'Counseling', 'Schedule counseling session for attendance issues', 'Teacher Rao', 'Visakhapatnam', 85.5),
+--     (nextval('intervention_seq'), 'STU002', 'Transport Support', 'Provide transport allowance', 'Admin Kumar', 'Vijayawada', 78.2),
+--     (nextval('intervention_seq'), 'STU003', 'Academic Support', 'Extra tutoring for math and science', 'Teacher Devi', 'Guntur', 92.1);
 
 -- Insert sample district stats
 INSERT INTO district_stats (district, total_students, high_risk_count, moderate_risk_count, low_risk_count)
@@ -0,0 +1,50 @@
+-- Migrate an existing database from SERIAL / IDENTITY ids to the pooled id sequences
+-- used by the JPA mappings (allocationSize 50). Run once before starting the backend
+-- with ddl-auto validate; safe to run again.
+--   psql -U appuser -d dropout_prevention -f migrate_id_sequences.sql
+
+CREATE SEQUENCE IF NOT EXISTS student_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS intervention_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS rescore_checkpoint_seq START WITH 1 INCREMENT BY 50;
+
+DO $$
+DECLARE
+    m RECORD;
+    max_id BIGINT;
+    last_value BIGINT;
+    is_called BOOLEAN;
+BEGIN
+    FOR m IN SELECT * FROM (VALUES
+        ('students', 'student_seq'),
+        ('interventions', 'intervention_seq'),
+        ('rescore_checkpoints', 'rescore_checkpoint_seq')) AS t(table_name, sequence_name)
+    LOOP
+        CONTINUE WHEN to_regclass(m.table_name) IS NULL;
+        
+        -- Ids now come from the application; drop the SERIAL default / IDENTITY and its sequence
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', m.table_name);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', m.table_name);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id TYPE BIGINT', m.table_name);
+        EXECUTE format('DROP SEQUENCE IF EXISTS %I', m.table_name || '_id_seq');
+        
+        -- The pooled optimizer hands out (v - 49 .. v) for a sequence value v, so the next
+        -- value must be at least MAX(id) + 50
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', m.table_name) INTO max_id;
+        EXECUTE format('SELECT last_value, is_called FROM %I', m.sequence_name) INTO last_value, is_called;
+        IF max_id > 0 AND (CASE WHEN is_called THEN last_value + 50 ELSE last_value END) < max_id + 50 THEN
+            PERFORM setval(m.sequence_name, max_id, true);
+        END IF;
+    END LOOP;
+END $$;
+
+-- Columns renamed / retyped since the first init.sql
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'interventions' AND column_name = 'assigned_to') THEN
+        ALTER TABLE interventions RENAME COLUMN assigned_to TO actioned_by;
+    END IF;
+END $$;
+ALTER TABLE interventions ALTER COLUMN risk_score TYPE DOUBLE PRECISION;
+
+GRANT ALL PRIVILEGES ON ALL SEQUENCES IN SCHEMA public TO appuser;
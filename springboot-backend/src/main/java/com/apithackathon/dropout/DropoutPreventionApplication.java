@@ -3,6 +3,8 @@ package com.apithackathon.dropout;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Spring Boot Application
@@ -11,23 +13,26 @@ import org.springframework.cache.annotation.EnableCaching;
  */
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
 public class DropoutPreventionApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(DropoutPreventionApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(DropoutPreventionApplication.class, args);
+        String port = context.getEnvironment().getProperty("local.server.port", "8080");
         
+        // Student counts are logged by the startup warm-up, which may still be running here
         System.out.println("\n" +
             "╔════════════════════════════════════════════════════════════════╗\n" +
             "║   🎓 AI Dropout Prevention System - Spring Boot Backend       ║\n" +
             "║   APIT Hackathon 2025 - Andhra Pradesh                        ║\n" +
             "║                                                                ║\n" +
-            "║   ✅ Server running on http://localhost:8080                  ║\n" +
+            String.format("║   ✅ Server running on http://localhost:%-22s║%n", port) +
             "║   ✅ API endpoints: /api/students, /api/interventions         ║\n" +
-            "║   ✅ Health check: http://localhost:8080/actuator/health      ║\n" +
+            "║   ✅ Health check: /actuator/health (readiness: /readiness)   ║\n" +
             "║   ✅ Swagger UI (if configured): /swagger-ui.html             ║\n" +
             "║                                                                ║\n" +
-            "║   📊 4,424 students loaded from Kaggle dataset                ║\n" +
-            "║   🎯 Ready for demo!                                          ║\n" +
+            "║   📊 Kaggle dataset loading in startup warm-up                ║\n" +
+            "║   🎯 Ready for demo once /actuator/health/readiness is UP     ║\n" +
             "╚════════════════════════════════════════════════════════════════╝\n"
         );
     }
@@ -0,0 +1,67 @@
+package com.apithackathon.dropout.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+/**
+ * Admission Control Configuration - Rate limiting on /api/** and a concurrency cap on heavy endpoints
+ * Both answer 429 Too Many Requests with a Retry-After header when they refuse a request.
+ * Opt-in (app.admission.enabled): behind a proxy every client shares the proxy's bucket until
+ * the proxy is listed in trusted-proxies.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+public class AdmissionControlConfig implements WebMvcConfigurer {
+    
+    private final AdmissionControlProperties properties;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    
+    public AdmissionControlConfig(AdmissionControlProperties properties,
+                                  ObjectProvider<DataSource> dataSource,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimitInterceptor = new RateLimitInterceptor(properties.getRateLimit(), meterRegistry);
+        this.concurrencyLimitInterceptor = new ConcurrencyLimitInterceptor(
+            properties.getConcurrency(), dataSource.getIfAvailable(), meterRegistry);
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor)
+            .addPathPatterns("/api/**")
+            .excludePathPatterns("/api/health");
+        registry.addInterceptor(concurrencyLimitInterceptor)
+            .addPathPatterns(properties.getConcurrency().getPaths());
+    }
+    
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleClients() {
+        rateLimitInterceptor.evictIdle(properties.getRateLimit().getClientIdleTimeout());
+    }
+    
+    /**
+     * Write a 429 response in the same shape as the controller's error responses
+     */
+    static void reject(HttpServletResponse response, String message, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\",\"timestamp\":\""
+            + System.currentTimeMillis() + "\"}");
+    }
+}
@@ -0,0 +1,86 @@
+package com.apithackathon.dropout.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Admission Control Properties - Per-client rate limits and heavy-endpoint concurrency
+ * Bound from app.admission.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionControlProperties {
+    
+    private boolean enabled = false;
+    
+    private RateLimit rateLimit = new RateLimit();
+    
+    private Concurrency concurrency = new Concurrency();
+    
+    @Data
+    public static class RateLimit {
+        /**
+         * Sustained requests per second per client
+         */
+        private double requestsPerSecond = 20;
+        
+        /**
+         * Bucket capacity (burst size) per client
+         */
+        private int burst = 40;
+        
+        /**
+         * Take the client address from X-Forwarded-For (behind nginx); only honoured for
+         * requests arriving from trusted-proxies, as the header is otherwise client-supplied
+         */
+        private boolean trustForwardedFor = false;
+        
+        /**
+         * Proxy addresses whose X-Forwarded-For hops are believed
+         */
+        private List<String> trustedProxies = new ArrayList<>(List.of("127.0.0.1", "0:0:0:0:0:0:0:1"));
+        
+        /**
+         * Most client buckets held; clients beyond it share one overflow bucket until idle ones expire
+         */
+        private int maxClients = 10_000;
+        
+        /**
+         * Buckets of clients not seen for this long are dropped
+         */
+        private Duration clientIdleTimeout = Duration.ofMinutes(10);
+    }
+    
+    @Data
+    public static class Concurrency {
+        /**
+         * Heavy requests allowed in flight at once; keep below the connection pool size
+         */
+        private int maxConcurrent = 8;
+        
+        /**
+         * How long a heavy request may wait for a slot before being shed with 429
+         */
+        private Duration acquireTimeout = Duration.ofMillis(100);
+        
+        /**
+         * Shed heavy requests while threads are already queueing for a pool connection
+         */
+        private boolean shedOnPoolWait = true;
+        
+        /**
+         * Endpoints counted as heavy
+         */
+        private List<String> paths = new ArrayList<>(List.of(
+            "/api/students/district/**",
+            "/api/students/at-risk/**",
+            "/api/districts/*/stats",
+            "/api/districts/summary",
+            "/api/model/metrics",
+            "/api/simulations"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.apithackathon.dropout.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Analytics Properties - Intervention effectiveness windows
+ * Bound from app.analytics.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsProperties {
+    
+    /**
+     * Weekly windows kept in memory (by intervention date)
+     */
+    private int weeksRetained = 52;
+    
+    /**
+     * Monthly windows kept in memory; interventions older than this are no longer tracked
+     */
+    private int monthsRetained = 24;
+    
+    /**
+     * Risk score change (points) that counts as improved / worsened
+     */
+    private double minRiskChange = 5.0;
+    
+    /**
+     * Schedule for dropping windows past retention
+     */
+    private String evictionCron = "0 5 0 * * *";
+}
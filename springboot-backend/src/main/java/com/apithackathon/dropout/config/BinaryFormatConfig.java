@@ -0,0 +1,39 @@
+package com.apithackathon.dropout.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary Format Configuration - CBOR and Smile message converters for content negotiation
+ * Both mappers reuse the application's Jackson settings (spring.jackson.*)
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryFormatConfig implements WebMvcConfigurer {
+    
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+    
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(c -> c instanceof MappingJackson2CborHttpMessageConverter
+            || c instanceof MappingJackson2SmileHttpMessageConverter);
+        
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+            objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+            objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    }
+}
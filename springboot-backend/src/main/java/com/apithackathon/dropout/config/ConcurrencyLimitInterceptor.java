@@ -0,0 +1,128 @@
+package com.apithackathon.dropout.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency Limit Interceptor - Bounds heavy requests in flight and sheds the rest with 429
+ * Requests are also shed while threads are queueing on the Hikari pool, so heavy reads
+ * back off before they starve writes of connections. Under replica routing or sharding every
+ * target pool is watched.
+ */
+@Slf4j
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+    
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final List<HikariDataSource> pools;
+    private final Counter rejectedBusy;
+    private final Counter rejectedPoolWait;
+    
+    public ConcurrencyLimitInterceptor(AdmissionControlProperties.Concurrency properties, DataSource dataSource,
+                                       MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(properties.getMaxConcurrent());
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+        this.pools = properties.isShedOnPoolWait() ? hikariPools(dataSource) : List.of();
+        if (properties.isShedOnPoolWait() && pools.isEmpty()) {
+            log.warn("shed-on-pool-wait is set but no Hikari pool was found behind {}; pool-wait shedding is off",
+                dataSource != null ? dataSource.getClass().getSimpleName() : "no DataSource");
+        }
+        
+        this.rejectedBusy = Counter.builder("app.admission.rejected")
+            .tag("reason", "concurrency")
+            .register(meterRegistry);
+        this.rejectedPoolWait = Counter.builder("app.admission.rejected")
+            .tag("reason", "pool-wait")
+            .register(meterRegistry);
+        Gauge.builder("app.admission.heavy.in-flight", permits,
+                      p -> properties.getMaxConcurrent() - p.availablePermits())
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (poolSaturated()) {
+            rejectedPoolWait.increment();
+            AdmissionControlConfig.reject(response, "Server busy, database pool saturated", 1);
+            return false;
+        }
+        
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejectedBusy.increment();
+            AdmissionControlConfig.reject(response, "Server busy, too many concurrent requests", 1);
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permits.release();
+        }
+    }
+    
+    private boolean poolSaturated() {
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean != null && mxBean.getThreadsAwaitingConnection() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Hikari pools looked through the lazy proxy and the routing data source: the primary and
+     * replicas under read/write routing, every shard when sharded
+     */
+    private static List<HikariDataSource> hikariPools(DataSource dataSource) {
+        DataSource target = dataSource;
+        while (target instanceof DelegatingDataSource delegating) {
+            target = delegating.getTargetDataSource();
+        }
+        List<DataSource> targets = new ArrayList<>();
+        if (target instanceof AbstractRoutingDataSource routing) {
+            targets.addAll(routing.getResolvedDataSources().values());
+            targets.add(routing.getResolvedDefaultDataSource());
+        } else {
+            targets.add(target);
+        }
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (DataSource candidate : targets) {
+            if (candidate instanceof HikariDataSource hikari && !pools.contains(hikari)) {
+                pools.add(hikari);
+            }
+        }
+        return pools;
+    }
+}
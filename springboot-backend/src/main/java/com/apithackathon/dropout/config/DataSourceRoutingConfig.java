@@ -0,0 +1,111 @@
+package com.apithackathon.dropout.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Data Source Routing Configuration - Separate write and read pools behind one DataSource
+ * Enabled with app.datasource.routing.enabled=true; @Transactional(readOnly = true)
+ * service methods are served by replicas, all other access by the primary. The pools sit behind
+ * the exposed proxy, so they are closed here when the context shuts down.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig implements DisposableBean {
+    
+    private final List<HikariDataSource> openPools = new CopyOnWriteArrayList<>();
+    
+    @Bean
+    public ReplicaSelector replicaSelector(DataSourceRoutingProperties properties,
+                                           DataSourceProperties dataSourceProperties,
+                                           MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<DataSourceRoutingProperties.Pool> pools = properties.getReplicas();
+        for (int i = 0; i < pools.size(); i++) {
+            DataSourceRoutingProperties.Pool pool = pools.get(i);
+            String name = pool.getName() != null ? pool.getName() : "replica-" + (i + 1);
+            HikariDataSource replica = createPool(name, pool, dataSourceProperties, meterRegistry);
+            openPools.add(replica);
+            replicas.put(name, replica);
+        }
+        return new ReplicaSelector(replicas, properties.getMaxLag(), properties.getLagQuery(), meterRegistry);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceRoutingProperties properties,
+                                 DataSourceProperties dataSourceProperties,
+                                 ReplicaSelector replicaSelector,
+                                 MeterRegistry meterRegistry) {
+        DataSourceRoutingProperties.Pool primaryPool = properties.getPrimary();
+        String primaryName = primaryPool.getName() != null ? primaryPool.getName() : ReadWriteRoutingDataSource.PRIMARY;
+        HikariDataSource primary = createPool(primaryName, primaryPool, dataSourceProperties, meterRegistry);
+        openPools.add(primary);
+        
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primary);
+        targets.putAll(replicaSelector.getDataSources());
+        
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaSelector);
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+    
+    @Override
+    public void destroy() {
+        closePools(openPools);
+    }
+    
+    /**
+     * Close pools created by a routing configuration; dependent beans (the EntityManagerFactory) are gone by now
+     */
+    static void closePools(List<HikariDataSource> pools) {
+        for (HikariDataSource pool : pools) {
+            pool.close();
+        }
+        pools.clear();
+    }
+    
+    /**
+     * Build a Hikari pool with its own name, sizing and Micrometer metrics
+     * Connection settings not given on the pool fall back to spring.datasource.*
+     */
+    static HikariDataSource createPool(String name, DataSourceRoutingProperties.Pool pool,
+                                               DataSourceProperties defaults, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(pool.getUrl() != null ? pool.getUrl() : defaults.determineUrl());
+        config.setUsername(pool.getUsername() != null ? pool.getUsername() : defaults.determineUsername());
+        config.setPassword(pool.getPassword() != null ? pool.getPassword() : defaults.determinePassword());
+        String driver = pool.getDriverClassName() != null ? pool.getDriverClassName() : defaults.determineDriverClassName();
+        if (driver != null) {
+            config.setDriverClassName(driver);
+        }
+        config.setMaximumPoolSize(pool.getMaximumPoolSize());
+        config.setMinimumIdle(pool.getMinimumIdle());
+        config.setConnectionTimeout(pool.getConnectionTimeout());
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,54 @@
+package com.apithackathon.dropout.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Source Routing Properties - Primary/replica pools for read-write splitting
+ * Bound from app.datasource.routing.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+    
+    /**
+     * Route read-only transactions to replicas
+     */
+    private boolean enabled = false;
+    
+    /**
+     * Write pool; connection settings default to spring.datasource.*
+     */
+    private Pool primary = new Pool();
+    
+    /**
+     * Read replica pools, load-balanced round-robin
+     */
+    private List<Pool> replicas = new ArrayList<>();
+    
+    /**
+     * Replicas lagging more than this are taken out of rotation
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+    
+    /**
+     * Query returning replica lag in milliseconds; connectivity-only check when empty
+     */
+    private String lagQuery;
+    
+    @Data
+    public static class Pool {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+        private int minimumIdle = 2;
+        private long connectionTimeout = 30000;
+    }
+}
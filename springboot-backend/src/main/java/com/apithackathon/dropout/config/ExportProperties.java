@@ -0,0 +1,43 @@
+package com.apithackathon.dropout.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Export Properties - At-risk extract jobs written to local disk
+ * Bound from app.export.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+    
+    /**
+     * Base directory; each job writes into its own sub-directory
+     */
+    private String directory = "./exports";
+    
+    /**
+     * Rows per database chunk and per Arrow record batch
+     */
+    private int batchSize = 10000;
+    
+    /**
+     * A new file is started once a file holds at least this many rows
+     */
+    private long rowsPerFile = 1000000;
+    
+    /**
+     * Jobs running at the same time; further jobs queue
+     */
+    private int maxConcurrentJobs = 1;
+    
+    /**
+     * Jobs kept; the files of older jobs are deleted
+     */
+    private int maxJobsRetained = 50;
+    
+    /**
+     * Off-heap memory limit for Arrow record batches (bytes)
+     */
+    private long arrowMemoryLimit = 256L * 1024 * 1024;
+}
@@ -0,0 +1,98 @@
+package com.apithackathon.dropout.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Id Sequence Initializer - Moves each id sequence past the ids already in its table
+ * Tables that used IDENTITY/SERIAL ids keep their rows when the schema is updated, but a new
+ * sequence starts at 1 and would hand those ids out again. Runs on every shard once the
+ * schema exists and before the web server starts. Under sharding, intervention_seq of shard n
+ * also starts at n << 48 so intervention ids are unique across shards and name their shard.
+ * Existing PostgreSQL databases are migrated with migrate_id_sequences.sql.
+ */
+@Component
+@Lazy(false)
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class IdSequenceInitializer implements InitializingBean {
+    
+    /**
+     * Matches the allocationSize of the mappings; the pooled optimizer treats a sequence
+     * value v as the top of the block [v - 49, v]
+     */
+    public static final long ALLOCATION_SIZE = 50;
+    
+    /**
+     * table -> sequence of its id column
+     */
+    private static final Map<String, String> SEQUENCES = Map.of(
+        "students", "student_seq",
+        "interventions", "intervention_seq",
+        "rescore_checkpoints", "rescore_checkpoint_seq");
+    
+    private final ShardMap shardMap;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    
+    /**
+     * enabled is read at runtime rather than as a condition, which AOT would fix at build time;
+     * the CDS training run turns it off to stay off the database
+     */
+    public IdSequenceInitializer(ObjectProvider<ShardMap> shardMap, DataSource dataSource,
+                                 @Value("${app.persistence.align-id-sequences:true}") boolean enabled) {
+        this.shardMap = shardMap.getIfAvailable();
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.enabled = enabled;
+    }
+    
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (!enabled) {
+            return;
+        }
+        String nextValueSql = "PostgreSQL".equalsIgnoreCase(JdbcUtils.extractDatabaseMetaData(
+            jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName))
+            ? "SELECT nextval('%s')" : "SELECT NEXT VALUE FOR %s";
+        List<String> shards = shardMap != null ? shardMap.getShards() : Collections.singletonList(null);
+        for (String shard : shards) {
+            ShardContext.callOn(shard, () -> {
+                SEQUENCES.forEach((table, sequence) -> {
+                    Long maxId;
+                    try {
+                        maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+                    } catch (BadSqlGrammarException e) {
+                        // No schema to align, e.g. ddl-auto none against an empty database
+                        log.info("Table {} not found, {} left as is", table, sequence);
+                        return;
+                    }
+                    long floor = maxId != null ? maxId : 0;
+                    if (shard != null && table.equals("interventions")) {
+                        floor = Math.max(floor, shardMap.idRangeStart(shard));
+                    }
+                    // Taking a value costs one block of ids, but is the only portable way to read the sequence
+                    Long next = jdbcTemplate.queryForObject(String.format(nextValueSql, sequence), Long.class);
+                    if (next == null || Math.max(1, next - ALLOCATION_SIZE + 1) <= floor) {
+                        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (floor + ALLOCATION_SIZE));
+                        log.info("{}{} ids continue after {}", table, shard != null ? " on shard " + shard : "", floor);
+                    }
+                });
+                return null;
+            });
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.apithackathon.dropout.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Rate Limit Interceptor - Per-client token bucket; over-limit requests get 429
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+    
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+    private final AdmissionControlProperties.RateLimit properties;
+    private final Set<String> trustedProxies;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+    
+    public RateLimitInterceptor(AdmissionControlProperties.RateLimit properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.overflow = newBucket();
+        this.trustedProxies = Set.copyOf(properties.getTrustedProxies());
+        this.retryAfterSeconds = Math.max(1, (long) Math.ceil(1.0 / properties.getRequestsPerSecond()));
+        this.rejected = Counter.builder("app.admission.rejected")
+            .tag("reason", "rate-limit")
+            .register(meterRegistry);
+    }
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (bucketFor(clientKey(request)).tryConsume()) {
+            return true;
+        }
+        rejected.increment();
+        AdmissionControlConfig.reject(response, "Rate limit exceeded", retryAfterSeconds);
+        return false;
+    }
+    
+    /**
+     * Drop buckets of clients not seen for the given time
+     */
+    public void evictIdle(Duration idle) {
+        long cutoff = System.nanoTime() - idle.toNanos();
+        buckets.values().removeIf(bucket -> bucket.lastUsed() < cutoff);
+    }
+    
+    /**
+     * Client's own bucket, or the shared overflow bucket once max-clients buckets are held
+     */
+    private TokenBucket bucketFor(String client) {
+        TokenBucket bucket = buckets.get(client);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxClients()) {
+            return overflow;
+        }
+        return buckets.computeIfAbsent(client, k -> newBucket());
+    }
+    
+    private TokenBucket newBucket() {
+        return new TokenBucket(properties.getBurst(), properties.getRequestsPerSecond());
+    }
+    
+    /**
+     * Remote address, or behind trusted proxies the nearest X-Forwarded-For hop that is not one of them
+     */
+    private String clientKey(HttpServletRequest request) {
+        String remote = request.getRemoteAddr();
+        if (!properties.isTrustForwardedFor() || !trustedProxies.contains(remote)) {
+            return remote;
+        }
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded == null || forwarded.isBlank()) {
+            return remote;
+        }
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                return hop;
+            }
+        }
+        return hops[0].trim();
+    }
+    
+    private static class TokenBucket {
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill;
+        
+        TokenBucket(int capacity, double perSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = perSecond / 1_000_000_000.0;
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+        
+        synchronized boolean tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return true;
+            }
+            return false;
+        }
+        
+        synchronized long lastUsed() {
+            return lastRefill;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.apithackathon.dropout.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-Write Routing Data Source - Sends read-only transactions to a healthy replica
+ * Everything else (writes, non-transactional access) goes to the primary.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the lookup happens after
+ * the transaction's read-only flag has been bound.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    
+    public static final String PRIMARY = "primary";
+    
+    private final ReplicaSelector replicaSelector;
+    
+    public ReadWriteRoutingDataSource(ReplicaSelector replicaSelector) {
+        this.replicaSelector = replicaSelector;
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return replicaSelector.next().orElse(PRIMARY);
+        }
+        return PRIMARY;
+    }
+}
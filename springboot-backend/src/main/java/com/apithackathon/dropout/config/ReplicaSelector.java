@@ -0,0 +1,118 @@
+package com.apithackathon.dropout.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Replica Selector - Round-robin over replicas that are reachable and within the lag budget
+ * Returns empty when no replica is usable, so reads fall back to the primary.
+ */
+@Slf4j
+public class ReplicaSelector {
+    
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final AtomicInteger cursor = new AtomicInteger();
+    
+    public ReplicaSelector(Map<String, DataSource> replicas, Duration maxLag, String lagQuery,
+                           MeterRegistry meterRegistry) {
+        this.replicas = replicas.entrySet().stream()
+            .map(e -> new Replica(e.getKey(), e.getValue()))
+            .toList();
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        
+        for (Replica replica : this.replicas) {
+            Gauge.builder("app.datasource.replica.lag", replica, r -> r.lagMillis)
+                .tag("replica", replica.name)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+            Gauge.builder("app.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                .tag("replica", replica.name)
+                .register(meterRegistry);
+        }
+    }
+    
+    /**
+     * Pick the next healthy replica key
+     */
+    public Optional<String> next() {
+        int size = replicas.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return Optional.of(replica.name);
+            }
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Replica pools by routing key
+     */
+    public Map<String, DataSource> getDataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(r -> dataSources.put(r.name, r.dataSource));
+        return dataSources;
+    }
+    
+    /**
+     * Probe replicas for connectivity and lag
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:10000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                long lag = 0;
+                if (lagQuery != null && !lagQuery.isBlank()) {
+                    try (Statement statement = connection.createStatement();
+                         ResultSet rs = statement.executeQuery(lagQuery)) {
+                        lag = rs.next() ? rs.getLong(1) : 0;
+                    }
+                } else if (!connection.isValid(2)) {
+                    throw new IllegalStateException("Connection not valid");
+                }
+                replica.lagMillis = lag;
+                replica.healthy = lag <= maxLag.toMillis();
+            } catch (Exception e) {
+                replica.healthy = false;
+                log.debug("Replica {} check failed", replica.name, e);
+            }
+            if (wasHealthy != replica.healthy) {
+                log.warn("Replica {} is now {} (lag {} ms)", replica.name,
+                         replica.healthy ? "in rotation" : "out of rotation", replica.lagMillis);
+            }
+        }
+    }
+    
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long lagMillis;
+        
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
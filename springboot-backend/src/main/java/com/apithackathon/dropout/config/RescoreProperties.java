@@ -0,0 +1,48 @@
+package com.apithackathon.dropout.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Rescore Properties - Nightly batch re-scoring of stored risk scores
+ * Bound from app.rescore.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.rescore")
+public class RescoreProperties {
+    
+    /**
+     * Run the nightly job (and resume interrupted runs) on this node
+     */
+    private boolean enabled = true;
+    
+    /**
+     * Schedule; "-" disables the nightly trigger
+     */
+    private String cron = "0 0 2 * * *";
+    
+    /**
+     * Parallel partitions per run; each holds at most one pool connection at a time
+     */
+    private int workers = 2;
+    
+    /**
+     * Students per keyset chunk; one transaction (updates + checkpoint) per chunk
+     */
+    private int chunkSize = 1000;
+    
+    /**
+     * Back off while the pool has waiting threads or more than this share of connections active
+     */
+    private double maxPoolUtilization = 0.75;
+    
+    private Duration minBackoff = Duration.ofMillis(50);
+    private Duration maxBackoff = Duration.ofSeconds(5);
+    
+    /**
+     * Start a run when the risk model weights or thresholds change
+     */
+    private boolean onModelChange = false;
+}
@@ -0,0 +1,112 @@
+package com.apithackathon.dropout.config;
+
+import com.apithackathon.dropout.model.RiskFactor;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Risk Model Properties - Thresholds and per-factor rules of the 7-factor risk model
+ * Bound from app.risk.*; an optional rules file with the same layout is hot-reloaded.
+ * Factors not configured keep the built-in rules below.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.risk")
+public class RiskModelProperties {
+    
+    private double highThreshold = 70.0;
+    private double moderateThreshold = 50.0;
+    
+    /**
+     * Optional YAML file (app.risk.* layout) polled for changes and applied without a restart
+     */
+    private String rulesFile;
+    
+    /**
+     * Rules file poll interval (ms)
+     */
+    private long reloadInterval = 30000;
+    
+    /**
+     * Rules per factor: bands for attendance/exam score, values for the categorical factors
+     */
+    private Map<RiskFactor, FactorRule> rules = defaultRules();
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FactorRule {
+        
+        /**
+         * Numeric factors: the first band (ascending) with value < below applies
+         */
+        private List<Band> bands = new ArrayList<>();
+        
+        /**
+         * Categorical factors: points per value (case-insensitive)
+         */
+        private Map<String, Category> values = new LinkedHashMap<>();
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Band {
+        private double below;
+        private double points;
+        
+        /**
+         * Reason text; may contain one format specifier for the value
+         */
+        private String reason;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Category {
+        private double points;
+        private String reason;
+    }
+    
+    /**
+     * The original model: 30/15, 25/12, 15/7, 10, 10, 5, 5
+     */
+    public static Map<RiskFactor, FactorRule> defaultRules() {
+        Map<RiskFactor, FactorRule> rules = new EnumMap<>(RiskFactor.class);
+        rules.put(RiskFactor.ATTENDANCE, bands(
+            new Band(60, 30, "Low attendance (%.1f%%)"),
+            new Band(75, 15, "Moderate attendance (%.1f%%)")));
+        rules.put(RiskFactor.EXAM_SCORE, bands(
+            new Band(45, 25, "Below-average exam scores (%.1f)"),
+            new Band(65, 12, "Average exam scores (%.1f)")));
+        rules.put(RiskFactor.SOCIO_ECONOMIC_STATUS, values(Map.of(
+            "Low", new Category(15, "Low socio-economic status"),
+            "Medium", new Category(7, null))));
+        rules.put(RiskFactor.TRANSPORT_ALLOWANCE, values(Map.of(
+            "false", new Category(10, "Transport allowance not utilized"))));
+        rules.put(RiskFactor.MIGRATION, values(Map.of(
+            "1", new Category(10, "Seasonal migrant family"))));
+        rules.put(RiskFactor.GENDER, values(Map.of(
+            "Female", new Category(5, "Female student (higher dropout risk)"))));
+        rules.put(RiskFactor.SOCIAL_CATEGORY, values(Map.of(
+            "ST", new Category(5, "Belongs to ST/SC category"),
+            "SC", new Category(5, "Belongs to ST/SC category"))));
+        return rules;
+    }
+    
+    private static FactorRule bands(Band... bands) {
+        return new FactorRule(new ArrayList<>(List.of(bands)), new LinkedHashMap<>());
+    }
+    
+    private static FactorRule values(Map<String, Category> values) {
+        return new FactorRule(new ArrayList<>(), new LinkedHashMap<>(values));
+    }
+}
@@ -0,0 +1,38 @@
+package com.apithackathon.dropout.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard Context - Thread-bound shard key read by the ShardRoutingDataSource
+ */
+public final class ShardContext {
+    
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    
+    private ShardContext() {
+    }
+    
+    /**
+     * Shard bound to the current thread, or null for the default shard
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+    
+    /**
+     * Run work with the given shard bound, restoring the previous binding afterwards
+     */
+    public static <T> T callOn(String shard, Supplier<T> work) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
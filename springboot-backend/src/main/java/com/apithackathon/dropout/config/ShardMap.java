@@ -0,0 +1,81 @@
+package com.apithackathon.dropout.config;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shard Map - Resolves a district to the shard that owns its students and interventions
+ */
+public class ShardMap {
+    
+    /**
+     * Intervention ids of shard n start at n << ID_RANGE_BITS, so an id identifies its shard
+     */
+    public static final int ID_RANGE_BITS = 48;
+    
+    private final Map<String, String> districtToShard = new HashMap<>();
+    private final List<String> shards;
+    private final String defaultShard;
+    
+    public ShardMap(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("app.sharding.enabled is set but no shards are configured");
+        }
+        this.shards = properties.getShards().stream()
+            .map(ShardingProperties.Shard::getName)
+            .toList();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            if (shard.getName() == null) {
+                throw new IllegalStateException("Every shard needs a name");
+            }
+            for (String district : shard.getDistricts()) {
+                String previous = districtToShard.put(district, shard.getName());
+                if (previous != null) {
+                    throw new IllegalStateException("District " + district + " mapped to shards "
+                        + previous + " and " + shard.getName());
+                }
+            }
+        }
+        this.defaultShard = properties.getDefaultShard() != null
+            ? properties.getDefaultShard()
+            : shards.get(0);
+    }
+    
+    /**
+     * Shard owning the district; unmapped districts go to the default shard
+     */
+    public String shardFor(String district) {
+        if (district == null) {
+            return defaultShard;
+        }
+        return districtToShard.getOrDefault(district, defaultShard);
+    }
+    
+    /**
+     * First id of the shard's intervention id range (0 for the first shard)
+     */
+    public long idRangeStart(String shard) {
+        int index = shards.indexOf(shard);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown shard: " + shard);
+        }
+        return (long) index << ID_RANGE_BITS;
+    }
+    
+    /**
+     * Shard whose id range contains the id; null if the id is outside every range
+     */
+    public String shardForId(long id) {
+        long index = id >>> ID_RANGE_BITS;
+        return id > 0 && index < shards.size() ? shards.get((int) index) : null;
+    }
+    
+    public List<String> getShards() {
+        return shards;
+    }
+    
+    public String getDefaultShard() {
+        return defaultShard;
+    }
+}
@@ -0,0 +1,23 @@
+package com.apithackathon.dropout.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Shard Routing Data Source - Picks the shard pool bound in ShardContext
+ * Must be wrapped in a LazyConnectionDataSourceProxy so the lookup happens on the
+ * first statement rather than when the transaction begins.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+    
+    private final String defaultShard;
+    
+    public ShardRoutingDataSource(String defaultShard) {
+        this.defaultShard = defaultShard;
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : defaultShard;
+    }
+}
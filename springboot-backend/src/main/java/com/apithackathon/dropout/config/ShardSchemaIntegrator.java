@@ -0,0 +1,47 @@
+package com.apithackathon.dropout.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.DelayedDropRegistryNotAvailableImpl;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+
+/**
+ * Shard Schema Integrator - Applies the entity schema to every non-default shard
+ * Hibernate's ddl-auto only sees the default shard, so the same metadata and hbm2ddl
+ * settings are run through the SchemaManagementTool again with each shard bound in ShardContext.
+ */
+@Slf4j
+public class ShardSchemaIntegrator implements Integrator {
+    
+    private final ShardMap shardMap;
+    
+    public ShardSchemaIntegrator(ShardMap shardMap) {
+        this.shardMap = shardMap;
+    }
+    
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        for (String shard : shardMap.getShards()) {
+            if (shard.equals(shardMap.getDefaultShard())) {
+                continue;
+            }
+            log.info("Applying schema on shard {}", shard);
+            ShardContext.callOn(shard, () -> {
+                SchemaManagementToolCoordinator.process(metadata, sessionFactory.getServiceRegistry(),
+                                                        sessionFactory.getProperties(),
+                                                        DelayedDropRegistryNotAvailableImpl.INSTANCE);
+                return null;
+            });
+        }
+    }
+    
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory,
+                             SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.apithackathon.dropout.config;
+
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shard Sequence Generator - Sequence generator with one pooled optimizer per shard
+ * A plain SequenceStyleGenerator caches a single block of ids per SessionFactory, so a block
+ * fetched from one shard's sequence would be handed out on every shard. Each shard bound by
+ * ShardContext gets its own delegate, drawing blocks only from that shard's sequence.
+ */
+public class ShardSequenceGenerator implements IdentifierGenerator {
+    
+    private final SequenceStyleGenerator defaultShard = new SequenceStyleGenerator();
+    private final Map<String, SequenceStyleGenerator> shards = new ConcurrentHashMap<>();
+    
+    private Type type;
+    private Properties params;
+    private ServiceRegistry serviceRegistry;
+    private Database database;
+    private SqlStringGenerationContext context;
+    
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+        this.type = type;
+        this.params = params;
+        this.serviceRegistry = serviceRegistry;
+        defaultShard.configure(type, params, serviceRegistry);
+    }
+    
+    @Override
+    public void registerExportables(Database database) {
+        this.database = database;
+        defaultShard.registerExportables(database);
+    }
+    
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        this.context = context;
+        defaultShard.initialize(context);
+    }
+    
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        String shard = ShardContext.current();
+        SequenceStyleGenerator delegate = shard == null ? defaultShard : shards.computeIfAbsent(shard, name -> newDelegate());
+        return delegate.generate(session, object);
+    }
+    
+    /**
+     * Same sequence mapping as the default shard; the sequence is already registered, so this only binds to it
+     */
+    private SequenceStyleGenerator newDelegate() {
+        SequenceStyleGenerator delegate = new SequenceStyleGenerator();
+        delegate.configure(type, params, serviceRegistry);
+        delegate.registerExportables(database);
+        delegate.initialize(context);
+        return delegate;
+    }
+}
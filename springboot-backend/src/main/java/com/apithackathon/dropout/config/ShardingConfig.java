@@ -0,0 +1,88 @@
+package com.apithackathon.dropout.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Sharding Configuration - One Hikari pool per district shard behind a routing DataSource
+ * Enabled with app.sharding.enabled=true. Replaces read-replica routing; the two
+ * modes cannot be combined. The shard pools are closed here when the context shuts down.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig implements DisposableBean {
+    
+    private final List<HikariDataSource> openPools = new CopyOnWriteArrayList<>();
+    
+    @Bean
+    public ShardMap shardMap(ShardingProperties properties,
+                             @Value("${app.datasource.routing.enabled:false}") boolean routingEnabled) {
+        if (routingEnabled) {
+            throw new IllegalStateException(
+                "app.sharding.enabled and app.datasource.routing.enabled cannot both be set");
+        }
+        return new ShardMap(properties);
+    }
+    
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardingProperties properties,
+                                 DataSourceProperties dataSourceProperties,
+                                 ShardMap shardMap,
+                                 MeterRegistry meterRegistry) {
+        Map<Object, Object> targets = new HashMap<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource pool = DataSourceRoutingConfig.createPool(
+                "shard-" + shard.getName(), shard, dataSourceProperties, meterRegistry);
+            openPools.add(pool);
+            targets.put(shard.getName(), pool);
+        }
+        
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(shardMap.getDefaultShard());
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(shardMap.getDefaultShard()));
+        routing.setLenientFallback(false);
+        routing.afterPropertiesSet();
+        
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+    
+    @Override
+    public void destroy() {
+        DataSourceRoutingConfig.closePools(openPools);
+    }
+    
+    /**
+     * Register the integrator that creates/updates tables on the non-default shards
+     * Only when ddl-auto manages the schema; with validate/none shards are provisioned externally.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaCustomizer(
+            ShardMap shardMap,
+            @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+        if ("none".equals(ddlAuto) || "validate".equals(ddlAuto)) {
+            return properties -> { };
+        }
+        ShardSchemaIntegrator integrator = new ShardSchemaIntegrator(shardMap);
+        return properties -> properties.put("hibernate.integrator_provider",
+            (IntegratorProvider) () -> List.of(integrator));
+    }
+}
@@ -0,0 +1,38 @@
+package com.apithackathon.dropout.config;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharding Properties - District-keyed shards for the student and intervention tables
+ * Bound from app.sharding.*
+ */
+@Data
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+    
+    /**
+     * Route student/intervention data to per-district shards
+     */
+    private boolean enabled = false;
+    
+    /**
+     * Shard for districts not listed in any shard; defaults to the first shard
+     */
+    private String defaultShard;
+    
+    /**
+     * Shard pools and the districts each one owns
+     */
+    private List<Shard> shards = new ArrayList<>();
+    
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class Shard extends DataSourceRoutingProperties.Pool {
+        private List<String> districts = new ArrayList<>();
+    }
+}
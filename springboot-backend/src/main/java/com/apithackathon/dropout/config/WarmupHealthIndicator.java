@@ -0,0 +1,35 @@
+package com.apithackathon.dropout.config;
+
+import com.apithackathon.dropout.service.StartupWarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warm-up Health Indicator - OUT_OF_SERVICE until the startup warm-up has completed
+ * Part of the readiness group (/actuator/health/readiness), so load balancers and
+ * orchestrators only route traffic to warmed-up instances; liveness is unaffected.
+ */
+@Component("warmup")
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+    
+    private final StartupWarmupService warmupService;
+    
+    @Override
+    public Health health() {
+        StartupWarmupService.State state = warmupService.getState();
+        Health.Builder builder = switch (state) {
+            case COMPLETED -> Health.up()
+                .withDetail("studentsLoaded", warmupService.getStudentsLoaded())
+                .withDetail("warmupMs", warmupService.getWarmupMs())
+                .withDetail("readyAfterMs", warmupService.getReadyAfterMs());
+            case FAILED -> Health.down()
+                .withDetail("error", String.valueOf(warmupService.getError()))
+                .withDetail("warmupMs", warmupService.getWarmupMs());
+            default -> Health.outOfService();
+        };
+        return builder.withDetail("state", state).build();
+    }
+}
@@ -1,14 +1,31 @@
 package com.apithackathon.dropout.controller;
 
+import com.apithackathon.dropout.config.BinaryFormatConfig;
 import com.apithackathon.dropout.model.*;
+import com.apithackathon.dropout.model.projection.AtRiskRow;
+import com.apithackathon.dropout.model.projection.StudentListRow;
+import com.apithackathon.dropout.service.ExportJobService;
+import com.apithackathon.dropout.service.InterventionAnalyticsService;
+import com.apithackathon.dropout.service.RequestCoalescer;
+import com.apithackathon.dropout.service.RiskAttributionService;
+import com.apithackathon.dropout.service.RiskModel;
+import com.apithackathon.dropout.service.RiskPredictionService;
+import com.apithackathon.dropout.service.RiskRescoreService;
+import com.apithackathon.dropout.service.RiskSimulationService;
 import com.apithackathon.dropout.service.StudentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +40,13 @@ import java.util.Map;
 public class StudentController {
     
     private final StudentService studentService;
+    private final RequestCoalescer requestCoalescer;
+    private final RiskAttributionService riskAttributionService;
+    private final RiskSimulationService riskSimulationService;
+    private final RiskPredictionService riskPredictionService;
+    private final RiskRescoreService riskRescoreService;
+    private final ExportJobService exportJobService;
+    private final InterventionAnalyticsService interventionAnalyticsService;
     
     /**
      * Health check endpoint
@@ -52,13 +76,9 @@ public class StudentController {
     @GetMapping("/students/{id}/risk")
     public ResponseEntity<RiskScore> getStudentRisk(@PathVariable String id) {
         log.info("Getting risk score for student: {}", id);
-        try {
-            RiskScore riskScore = studentService.getRiskScore(id);
-            return ResponseEntity.ok(riskScore);
-        } catch (RuntimeException e) {
-            log.error("Student not found: {}", id);
-            return ResponseEntity.notFound().build();
-        }
+        return studentService.getRiskScore(id)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
     }
     
     /**
@@ -68,7 +88,8 @@ public class StudentController {
     public ResponseEntity<List<Student>> getAtRiskStudents(
             @RequestParam(required = false, defaultValue = "50.0") Double threshold) {
         log.info("Getting at-risk students with threshold: {}", threshold);
-        List<Student> students = studentService.getAtRiskStudents(threshold);
+        List<Student> students = requestCoalescer.coalesce("at-risk:" + threshold,
+            () -> studentService.getAtRiskStudents(threshold));
         return ResponseEntity.ok(students);
     }
     
@@ -78,20 +99,175 @@ public class StudentController {
     @GetMapping("/students/district/{district}")
     public ResponseEntity<List<Student>> getStudentsByDistrict(@PathVariable String district) {
         log.info("Getting students for district: {}", district);
-        List<Student> students = studentService.getStudentsByDistrict(district);
+        List<Student> students = requestCoalescer.coalesce("district-students:" + district,
+            () -> studentService.getStudentsByDistrict(district));
         return ResponseEntity.ok(students);
     }
     
+    /**
+     * Get all at-risk students - columnar binary encoding (CBOR/Smile)
+     */
+    @GetMapping(value = "/students/at-risk/all",
+                produces = {BinaryFormatConfig.APPLICATION_CBOR, BinaryFormatConfig.APPLICATION_SMILE})
+    public ResponseEntity<StudentColumns> getAtRiskStudentColumns(
+            @RequestParam(required = false, defaultValue = "50.0") Double threshold) {
+        log.info("Getting at-risk students (columnar) with threshold: {}", threshold);
+        List<Student> students = requestCoalescer.coalesce("at-risk:" + threshold,
+            () -> studentService.getAtRiskStudents(threshold));
+        return ResponseEntity.ok(StudentColumns.from(students));
+    }
+    
+    /**
+     * Get students by district - columnar binary encoding (CBOR/Smile)
+     */
+    @GetMapping(value = "/students/district/{district}",
+                produces = {BinaryFormatConfig.APPLICATION_CBOR, BinaryFormatConfig.APPLICATION_SMILE})
+    public ResponseEntity<StudentColumns> getStudentColumnsByDistrict(@PathVariable String district) {
+        log.info("Getting students (columnar) for district: {}", district);
+        List<Student> students = requestCoalescer.coalesce("district-students:" + district,
+            () -> studentService.getStudentsByDistrict(district));
+        return ResponseEntity.ok(StudentColumns.from(students));
+    }
+    
     /**
      * Get district statistics
      */
     @GetMapping("/districts/{name}/stats")
     public ResponseEntity<DistrictStats> getDistrictStats(@PathVariable String name) {
         log.info("Getting statistics for district: {}", name);
-        DistrictStats stats = studentService.getDistrictStats(name);
+        DistrictStats stats = requestCoalescer.coalesce("district-stats:" + name,
+            () -> studentService.getDistrictStats(name));
         return ResponseEntity.ok(stats);
     }
     
+    /**
+     * Get statistics for all districts
+     */
+    @GetMapping("/districts/summary")
+    public ResponseEntity<List<DistrictStats>> getAllDistrictStats() {
+        log.info("Getting statistics for all districts");
+        return ResponseEntity.ok(requestCoalescer.coalesce("district-summary",
+            studentService::getAllDistrictStats));
+    }
+    
+    /**
+     * Get lightweight student rows for a district
+     */
+    @GetMapping("/students/district/{district}/rows")
+    public ResponseEntity<List<StudentListRow>> getDistrictRows(@PathVariable String district) {
+        log.info("Getting student rows for district: {}", district);
+        return ResponseEntity.ok(studentService.getDistrictRows(district));
+    }
+    
+    /**
+     * Get lightweight at-risk student rows
+     */
+    @GetMapping("/students/at-risk/rows")
+    public ResponseEntity<List<AtRiskRow>> getAtRiskRows(
+            @RequestParam(required = false, defaultValue = "50.0") Double threshold) {
+        log.info("Getting at-risk rows with threshold: {}", threshold);
+        return ResponseEntity.ok(studentService.getAtRiskRows(threshold));
+    }
+    
+    /**
+     * Get risk factor attribution for a district
+     */
+    @GetMapping("/districts/{name}/attribution")
+    public ResponseEntity<FactorAttribution> getDistrictAttribution(
+            @PathVariable String name,
+            @RequestParam(required = false, defaultValue = "High") String riskLevel) {
+        log.info("Getting {} risk attribution for district: {}", riskLevel, name);
+        return riskAttributionService.getDistrictAttribution(name, riskLevel)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Get state-wide risk factor attribution
+     */
+    @GetMapping("/attribution")
+    public ResponseEntity<FactorAttribution> getStateAttribution(
+            @RequestParam(required = false, defaultValue = "High") String riskLevel) {
+        log.info("Getting state-wide {} risk attribution", riskLevel);
+        return ResponseEntity.ok(riskAttributionService.getStateAttribution(riskLevel));
+    }
+    
+    /**
+     * What-if simulation: re-score a district or cohort with perturbed inputs
+     */
+    @PostMapping("/simulations")
+    public ResponseEntity<SimulationResult> simulate(@RequestBody SimulationRequest request) {
+        log.info("Running what-if simulation: {}", request);
+        return ResponseEntity.ok(riskSimulationService.simulate(request));
+    }
+    
+    /**
+     * Get the active risk model definition and version
+     */
+    @GetMapping("/risk/model")
+    public ResponseEntity<Map<String, Object>> getRiskModel() {
+        RiskModel model = riskPredictionService.getModel();
+        return ResponseEntity.ok(Map.of(
+            "version", model.getVersion(),
+            "compiledAt", model.getCompiledAt(),
+            "definition", riskPredictionService.getDefinition()
+        ));
+    }
+    
+    /**
+     * Start a batch re-scoring run now (resumes an interrupted run if there is one)
+     */
+    @PostMapping("/rescore/runs")
+    public ResponseEntity<RescoreStatus> startRescore() {
+        log.info("Manual rescore run requested");
+        return riskRescoreService.start("manual")
+            .map(status -> ResponseEntity.status(HttpStatus.ACCEPTED).body(status))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).body(riskRescoreService.getStatus()));
+    }
+    
+    /**
+     * Get status and throughput of the current or last re-scoring run
+     */
+    @GetMapping("/rescore/status")
+    public ResponseEntity<RescoreStatus> getRescoreStatus() {
+        return ResponseEntity.ok(riskRescoreService.getStatus());
+    }
+    
+    /**
+     * Start a state-wide at-risk export (students + latest intervention) as CSV or Arrow
+     */
+    @PostMapping("/exports")
+    public ResponseEntity<ExportStatus> startExport(@RequestBody(required = false) ExportRequest request) {
+        log.info("Export requested: {}", request);
+        ExportStatus status = exportJobService.submit(request != null ? request : new ExportRequest());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+    }
+    
+    /**
+     * Get export job progress and files
+     */
+    @GetMapping("/exports/{jobId}")
+    public ResponseEntity<ExportStatus> getExport(@PathVariable String jobId) {
+        return exportJobService.getStatus(jobId)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Download a completed export file
+     */
+    @GetMapping("/exports/{jobId}/files/{name}")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String jobId, @PathVariable String name) {
+        return exportJobService.getFile(jobId, name)
+            .map(path -> ResponseEntity.ok()
+                .contentType(name.endsWith(".arrow")
+                    ? MediaType.parseMediaType("application/vnd.apache.arrow.file")
+                    : MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "\"")
+                .body((Resource) new FileSystemResource(path)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+    
     /**
      * Get all districts
      */
@@ -117,6 +293,34 @@ public class StudentController {
         ));
     }
     
+    /**
+     * Bulk log interventions
+     */
+    @PostMapping("/interventions/bulk")
+    public ResponseEntity<Map<String, Object>> logInterventions(@RequestBody List<Intervention> interventions) {
+        log.info("Bulk logging {} interventions", interventions.size());
+        int inserted = studentService.logInterventions(interventions);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(Map.of(
+            "success", true,
+            "inserted", inserted
+        ));
+    }
+    
+    /**
+     * Bulk insert or update students
+     */
+    @PostMapping("/students/bulk")
+    public ResponseEntity<Map<String, Object>> upsertStudents(@RequestBody List<Student> students) {
+        log.info("Bulk upserting {} students", students.size());
+        int upserted = studentService.upsertStudents(students);
+        
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "upserted", upserted
+        ));
+    }
+    
     /**
      * Get interventions
      */
@@ -140,13 +344,29 @@ public class StudentController {
             .orElse(ResponseEntity.notFound().build());
     }
     
+    /**
+     * Intervention effectiveness per weekly/monthly window, from precomputed aggregates
+     */
+    @GetMapping("/analytics/interventions/effectiveness")
+    public ResponseEntity<InterventionEffectiveness> getInterventionEffectiveness(
+            @RequestParam(required = false, defaultValue = "week") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false, defaultValue = "type") String groupBy) {
+        log.info("Getting {} intervention effectiveness by {} ({} to {})", granularity, groupBy, from, to);
+        return ResponseEntity.ok(interventionAnalyticsService.getEffectiveness(
+            granularity, from, to, type, district, groupBy));
+    }
+    
     /**
      * Get model metrics
      */
     @GetMapping("/model/metrics")
     public ResponseEntity<ModelMetrics> getModelMetrics() {
         log.info("Getting model metrics");
-        ModelMetrics metrics = studentService.getModelMetrics();
+        ModelMetrics metrics = requestCoalescer.coalesce("model-metrics", studentService::getModelMetrics);
         return ResponseEntity.ok(metrics);
     }
     
@@ -165,6 +385,18 @@ public class StudentController {
         ));
     }
     
+    /**
+     * Bad request handler
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        log.warn("Bad request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of(
+            "error", e.getMessage(),
+            "timestamp", String.valueOf(System.currentTimeMillis())
+        ));
+    }
+    
     /**
      * Exception handler
      */
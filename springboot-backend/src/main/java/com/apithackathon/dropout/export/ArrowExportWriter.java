@@ -0,0 +1,158 @@
+package com.apithackathon.dropout.export;
+
+import com.apithackathon.dropout.model.projection.LatestInterventionRow;
+import com.apithackathon.dropout.model.projection.StudentExportRow;
+import org.apache.arrow.compression.CommonsCompressionFactory;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMilliVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.compression.CompressionUtil;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.ipc.message.IpcOption;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Arrow Export Writer - Apache Arrow IPC file (Feather v2) with ZSTD-compressed record batches
+ * One record batch per written batch; the vectors are reused, so off-heap memory is
+ * bounded by the batch size. Readable by pyarrow, pandas.read_feather, DuckDB and Polars.
+ */
+public class ArrowExportWriter implements ExportWriter {
+    
+    private static final ArrowType UTF8 = ArrowType.Utf8.INSTANCE;
+    private static final ArrowType FLOAT8 = new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+    private static final ArrowType INT32 = new ArrowType.Int(32, true);
+    private static final ArrowType BOOL = ArrowType.Bool.INSTANCE;
+    private static final ArrowType TIMESTAMP = new ArrowType.Timestamp(TimeUnit.MILLISECOND, null);
+    
+    /**
+     * Same columns and order as ExportWriter.COLUMNS
+     */
+    public static final Schema SCHEMA = new Schema(List.of(
+        field(COLUMNS[0], UTF8), field(COLUMNS[1], UTF8), field(COLUMNS[2], FLOAT8), field(COLUMNS[3], FLOAT8),
+        field(COLUMNS[4], UTF8), field(COLUMNS[5], BOOL), field(COLUMNS[6], INT32), field(COLUMNS[7], UTF8),
+        field(COLUMNS[8], UTF8), field(COLUMNS[9], UTF8), field(COLUMNS[10], FLOAT8), field(COLUMNS[11], FLOAT8),
+        field(COLUMNS[12], UTF8), field(COLUMNS[13], UTF8), field(COLUMNS[14], UTF8), field(COLUMNS[15], TIMESTAMP)));
+    
+    private final FileChannel channel;
+    private final VectorSchemaRoot root;
+    private final ArrowFileWriter writer;
+    
+    public ArrowExportWriter(Path file, BufferAllocator allocator) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.root = VectorSchemaRoot.create(SCHEMA, allocator);
+        this.writer = new ArrowFileWriter(root, null, channel, Collections.emptyMap(), IpcOption.DEFAULT,
+                                          CommonsCompressionFactory.INSTANCE, CompressionUtil.CodecType.ZSTD);
+        writer.start();
+    }
+    
+    @Override
+    public void write(List<ExportRecord> batch) throws IOException {
+        root.allocateNew();
+        for (int row = 0; row < batch.size(); row++) {
+            StudentExportRow s = batch.get(row).student();
+            LatestInterventionRow i = batch.get(row).latestIntervention();
+            text(0, row, s.getStudentId());
+            text(1, row, s.getDistrict());
+            number(2, row, s.getAttendanceRate());
+            number(3, row, s.getExamScore());
+            text(4, row, s.getSocioEconomicStatus());
+            flag(5, row, s.getTransportAllowanceUsed());
+            integer(6, row, s.getMigrationIndicator());
+            text(7, row, s.getGender());
+            text(8, row, s.getSocialCategory());
+            text(9, row, s.getDropoutRisk());
+            number(10, row, s.getRiskScore());
+            number(11, row, s.getRiskProbability());
+            text(12, row, s.getPredictedLabel());
+            text(13, row, i != null ? i.getType() : null);
+            text(14, row, i != null ? i.getStatus() : null);
+            timestamp(15, row, i != null ? i.getInterventionDate() : null);
+        }
+        root.setRowCount(batch.size());
+        writer.writeBatch();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.end();
+            writer.close();
+        } finally {
+            root.close();
+            channel.close();
+        }
+    }
+    
+    private void text(int column, int row, String value) {
+        VarCharVector vector = (VarCharVector) vector(column);
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+    
+    private void number(int column, int row, Double value) {
+        Float8Vector vector = (Float8Vector) vector(column);
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value);
+        }
+    }
+    
+    private void integer(int column, int row, Integer value) {
+        IntVector vector = (IntVector) vector(column);
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value);
+        }
+    }
+    
+    private void flag(int column, int row, Boolean value) {
+        BitVector vector = (BitVector) vector(column);
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value ? 1 : 0);
+        }
+    }
+    
+    private void timestamp(int column, int row, LocalDateTime value) {
+        TimeStampMilliVector vector = (TimeStampMilliVector) vector(column);
+        if (value == null) {
+            vector.setNull(row);
+        } else {
+            vector.setSafe(row, value.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+    }
+    
+    private FieldVector vector(int column) {
+        return root.getVector(column);
+    }
+    
+    private static Field field(String name, ArrowType type) {
+        return new Field(name, FieldType.nullable(type), null);
+    }
+}
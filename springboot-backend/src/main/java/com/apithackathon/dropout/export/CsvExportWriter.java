@@ -0,0 +1,97 @@
+package com.apithackathon.dropout.export;
+
+import com.apithackathon.dropout.model.projection.LatestInterventionRow;
+import com.apithackathon.dropout.model.projection.StudentExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CSV Export Writer - RFC 4180 CSV with a header row, gzip-compressed, written through a FileChannel
+ */
+public class CsvExportWriter implements ExportWriter {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Writer out;
+    
+    public CsvExportWriter(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.out = new BufferedWriter(new OutputStreamWriter(
+            new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), StandardCharsets.UTF_8),
+            BUFFER_SIZE);
+        writeRow(COLUMNS);
+    }
+    
+    @Override
+    public void write(List<ExportRecord> batch) throws IOException {
+        String[] fields = new String[COLUMNS.length];
+        for (ExportRecord record : batch) {
+            StudentExportRow s = record.student();
+            LatestInterventionRow i = record.latestIntervention();
+            fields[0] = s.getStudentId();
+            fields[1] = s.getDistrict();
+            fields[2] = text(s.getAttendanceRate());
+            fields[3] = text(s.getExamScore());
+            fields[4] = s.getSocioEconomicStatus();
+            fields[5] = text(s.getTransportAllowanceUsed());
+            fields[6] = text(s.getMigrationIndicator());
+            fields[7] = s.getGender();
+            fields[8] = s.getSocialCategory();
+            fields[9] = s.getDropoutRisk();
+            fields[10] = text(s.getRiskScore());
+            fields[11] = text(s.getRiskProbability());
+            fields[12] = s.getPredictedLabel();
+            fields[13] = i != null ? i.getType() : null;
+            fields[14] = i != null ? i.getStatus() : null;
+            fields[15] = i != null ? text(i.getInterventionDate()) : null;
+            writeRow(fields);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+    
+    private void writeRow(String[] fields) throws IOException {
+        for (int f = 0; f < fields.length; f++) {
+            if (f > 0) {
+                out.write(',');
+            }
+            writeField(fields[f]);
+        }
+        out.write("\r\n");
+    }
+    
+    private void writeField(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+    
+    private static String text(Object value) {
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.apithackathon.dropout.export;
+
+import com.apithackathon.dropout.model.projection.LatestInterventionRow;
+import com.apithackathon.dropout.model.projection.StudentExportRow;
+
+/**
+ * Export Record - One exported row: a student joined with its latest intervention (nullable)
+ */
+public record ExportRecord(StudentExportRow student, LatestInterventionRow latestIntervention) {
+}
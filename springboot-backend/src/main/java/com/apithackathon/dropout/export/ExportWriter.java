@@ -0,0 +1,27 @@
+package com.apithackathon.dropout.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Export Writer - Streams record batches into one export file
+ * Implementations hold at most one batch in memory.
+ */
+public interface ExportWriter extends Closeable {
+    
+    /**
+     * Append a batch of rows
+     */
+    void write(List<ExportRecord> batch) throws IOException;
+    
+    /**
+     * Column names, in file order
+     */
+    String[] COLUMNS = {
+        "student_id", "district", "attendance_rate", "exam_score", "socio_economic_status",
+        "transport_allowance_used", "migration_indicator", "gender", "social_category",
+        "dropout_risk", "risk_score", "risk_probability", "predicted_label",
+        "latest_intervention_type", "latest_intervention_status", "latest_intervention_date"
+    };
+}
@@ -0,0 +1,20 @@
+package com.apithackathon.dropout.model;
+
+import lombok.Data;
+
+/**
+ * Export Request DTO - State-wide at-risk extract to produce
+ */
+@Data
+public class ExportRequest {
+    
+    /**
+     * csv (gzip-compressed) or arrow (Arrow IPC file, ZSTD-compressed)
+     */
+    private String format = "csv";
+    
+    /**
+     * Risk probability threshold; defaults to the moderate risk threshold
+     */
+    private Double threshold;
+}
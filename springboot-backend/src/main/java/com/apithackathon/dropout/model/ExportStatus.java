@@ -0,0 +1,37 @@
+package com.apithackathon.dropout.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Export Status DTO - Progress and output files of an export job
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportStatus {
+    private String jobId;
+    private String format;
+    private String state;
+    private Double threshold;
+    private Long totalRows;
+    private Long rowsWritten;
+    private Double percentComplete;
+    private List<ExportFile> files;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExportFile {
+        private String name;
+        private Long rows;
+        private Long bytes;
+    }
+}
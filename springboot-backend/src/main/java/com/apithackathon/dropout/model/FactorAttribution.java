@@ -0,0 +1,35 @@
+package com.apithackathon.dropout.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Factor Attribution DTO - Share of a risk level's risk points attributable to each factor
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FactorAttribution {
+    private String district;
+    private String riskLevel;
+    private Long students;
+    private Double totalRiskPoints;
+    private List<FactorShare> factors;
+    private LocalDateTime computedAt;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FactorShare {
+        private String factor;
+        private String label;
+        private Double riskPoints;
+        private Double share;
+        private Long studentsAffected;
+        private Double prevalence;
+    }
+}
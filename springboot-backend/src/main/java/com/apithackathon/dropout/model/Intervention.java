@@ -1,9 +1,12 @@
 package com.apithackathon.dropout.model;
 
+import com.apithackathon.dropout.config.ShardSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import jakarta.validation.constraints.NotBlank;
 
 import java.time.LocalDateTime;
@@ -23,7 +26,12 @@ import java.time.LocalDateTime;
 public class Intervention {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "intervention_seq")
+    @GenericGenerator(name = "intervention_seq", type = ShardSequenceGenerator.class, parameters = {
+        @Parameter(name = "sequence_name", value = "intervention_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled")
+    })
     private Long id;
     
     @Column(name = "student_id", nullable = false, length = 50)
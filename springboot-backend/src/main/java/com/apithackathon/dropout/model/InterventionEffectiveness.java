@@ -0,0 +1,46 @@
+package com.apithackathon.dropout.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Intervention Effectiveness DTO - Risk change after interventions, per tumbling window
+ * Baseline is the student's risk score when the intervention was logged; follow-up is the
+ * latest score observed afterwards (re-score runs, bulk updates). Negative change = risk reduced.
+ */
+@Data
+@NoArgsConstructor
+public class InterventionEffectiveness {
+    private String granularity;
+    private String groupBy;
+    private LocalDate from;
+    private LocalDate to;
+    private Double minRiskChange;
+    private Long trackedInterventions;
+    private LocalDateTime loadedAt;
+    private LocalDateTime updatedAt;
+    private List<WindowStats> windows;
+    private List<WindowStats> totals;
+    
+    @Data
+    @NoArgsConstructor
+    public static class WindowStats {
+        private LocalDate windowStart;
+        private LocalDate windowEnd;
+        private String type;
+        private String district;
+        private Long interventions;
+        private Long withBaseline;
+        private Long measured;
+        private Long improved;
+        private Long worsened;
+        private Double avgBaselineScore;
+        private Double avgFollowUpScore;
+        private Double avgRiskChange;
+        private Double improvementRate;
+    }
+}
@@ -0,0 +1,78 @@
+package com.apithackathon.dropout.model;
+
+import com.apithackathon.dropout.config.ShardSequenceGenerator;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rescore Checkpoint Entity - Progress of one id-range partition of a batch re-scoring run
+ * Committed in the same transaction as the partition's score updates, so a restarted
+ * run resumes after the last committed chunk.
+ */
+@Entity
+@Table(name = "rescore_checkpoints", indexes = {
+    @Index(name = "idx_rescore_run", columnList = "runId"),
+    @Index(name = "idx_rescore_done", columnList = "done")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescoreCheckpoint {
+    
+    @Id
+    @GeneratedValue(generator = "rescore_checkpoint_seq")
+    @GenericGenerator(name = "rescore_checkpoint_seq", type = ShardSequenceGenerator.class, parameters = {
+        @Parameter(name = "sequence_name", value = "rescore_checkpoint_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled")
+    })
+    private Long id;
+    
+    @Column(name = "run_id", nullable = false, length = 36)
+    private String runId;
+    
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+    
+    @Column(name = "model_version")
+    private Long modelVersion;
+    
+    /**
+     * Keyset cursor: last students.id committed (exclusive lower bound of the next chunk)
+     */
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+    
+    /**
+     * Inclusive upper students.id of the partition
+     */
+    @Column(name = "end_id", nullable = false)
+    private Long endId;
+    
+    @Column(nullable = false)
+    private Long processed = 0L;
+    
+    @Column(nullable = false)
+    private Long changed = 0L;
+    
+    @Column(nullable = false)
+    private Boolean done = false;
+    
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,32 @@
+package com.apithackathon.dropout.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rescore Status DTO - Progress and throughput of the current or last batch re-scoring run
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RescoreStatus {
+    private String runId;
+    private String state;
+    private String trigger;
+    private Boolean resumed;
+    private Long modelVersion;
+    private Integer partitions;
+    private Integer partitionsDone;
+    private Long totalStudents;
+    private Long processed;
+    private Long changed;
+    private Long throttleEvents;
+    private Long throttledMs;
+    private Double studentsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
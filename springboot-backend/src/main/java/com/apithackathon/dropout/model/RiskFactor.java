@@ -0,0 +1,46 @@
+package com.apithackathon.dropout.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Risk Factor - The 7 factors of the risk model, in contribution-vector order
+ */
+public enum RiskFactor {
+    ATTENDANCE("attendance", "Low attendance"),
+    EXAM_SCORE("exam_score", "Low exam scores"),
+    SOCIO_ECONOMIC_STATUS("socio_economic_status", "Low socio-economic status"),
+    TRANSPORT_ALLOWANCE("transport_allowance", "Transport allowance not utilized"),
+    MIGRATION("migration", "Seasonal migration"),
+    GENDER("gender", "Female student"),
+    SOCIAL_CATEGORY("social_category", "ST/SC category");
+    
+    public static final int COUNT = values().length;
+    
+    private final String key;
+    private final String label;
+    
+    RiskFactor(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+    
+    public String getKey() {
+        return key;
+    }
+    
+    public String getLabel() {
+        return label;
+    }
+    
+    /**
+     * Contribution vector as a factor-key map, for JSON responses
+     */
+    public static Map<String, Double> toMap(double[] contributions) {
+        Map<String, Double> map = new LinkedHashMap<>();
+        for (RiskFactor factor : values()) {
+            map.put(factor.key, contributions[factor.ordinal()]);
+        }
+        return map;
+    }
+}
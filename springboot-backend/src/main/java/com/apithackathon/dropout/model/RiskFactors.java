@@ -0,0 +1,17 @@
+package com.apithackathon.dropout.model;
+
+/**
+ * Risk Factors - The 7 model inputs plus identity, as read by RiskPredictionService
+ * Implemented by the Student entity and by read-only projections of it.
+ */
+public interface RiskFactors {
+    String getStudentId();
+    String getDistrict();
+    Double getAttendanceRate();
+    Double getExamScore();
+    String getSocioEconomicStatus();
+    Boolean getTransportAllowanceUsed();
+    Integer getMigrationIndicator();
+    String getGender();
+    String getSocialCategory();
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Risk Score DTO - Risk assessment result for a student
@@ -20,6 +21,7 @@ public class RiskScore {
     private List<String> reasons;
     private String district;
     private StudentDetails studentDetails;
+    private Map<String, Double> factorContributions;
     
     @Data
     @NoArgsConstructor
@@ -0,0 +1,39 @@
+package com.apithackathon.dropout.model;
+
+import lombok.Data;
+
+/**
+ * Simulation Request DTO - What-if perturbations applied to a district or cohort before re-scoring
+ * Unset fields leave the corresponding input unchanged.
+ */
+@Data
+public class SimulationRequest {
+    
+    /**
+     * Cohort filters; state-wide, all students when unset
+     */
+    private String district;
+    private String gender;
+    private String socialCategory;
+    private String socioEconomicStatus;
+    
+    /**
+     * Attendance change in percentage points (e.g. 10 = +10%), capped to 0-100
+     */
+    private Double attendanceDelta;
+    
+    /**
+     * Exam score change in points, capped to 0-100
+     */
+    private Double examScoreDelta;
+    
+    /**
+     * Fraction (0-1) of students not using transport allowance who start using it; 1 = 100% uptake
+     */
+    private Double transportAllowanceUptake;
+    
+    /**
+     * Fraction (0-1) of seasonal migrant families who stop migrating
+     */
+    private Double migrationReduction;
+}
@@ -0,0 +1,27 @@
+package com.apithackathon.dropout.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Simulation Result DTO - Risk distribution of a cohort before and after a what-if scenario
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationResult {
+    private SimulationRequest scenario;
+    private Long students;
+    private Long studentsPerturbed;
+    private Map<String, Long> before;
+    private Map<String, Long> after;
+    private Map<String, Map<String, Long>> transitions;
+    private Double averageRiskScoreBefore;
+    private Double averageRiskScoreAfter;
+    private LocalDateTime snapshotAt;
+    private Long elapsedMs;
+}
@@ -1,9 +1,13 @@
 package com.apithackathon.dropout.model;
 
+import com.apithackathon.dropout.config.ShardSequenceGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.io.Serializable;
@@ -21,10 +25,22 @@ import java.io.Serializable;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Student implements Serializable {
+public class Student implements Serializable, RiskFactors {
+    
+    /**
+     * High-risk threshold of the active risk model, kept in step by RiskPredictionService
+     */
+    private static volatile double highRiskThreshold = 70.0;
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "student_seq")
+    @GenericGenerator(name = "student_seq", type = ShardSequenceGenerator.class, parameters = {
+        @Parameter(name = "sequence_name", value = "student_seq"),
+        @Parameter(name = "increment_size", value = "50"),
+        @Parameter(name = "optimizer", value = "pooled")
+    })
+    // Row key only; the API's "id" is studentId
+    @JsonIgnore
     private Long id;
     
     @Column(name = "student_id", nullable = false, unique = true, length = 50)
@@ -83,23 +99,17 @@ public class Student implements Serializable {
     private String[] reasons;
     
     /**
-     * Calculate risk level based on probability
+     * Check if student is at high risk
      */
-    public String calculateRiskLevel() {
-        if (riskProbability == null || riskScore == null) return "Unknown";
-        
-        double score = (riskProbability != null) ? riskProbability : riskScore;
-        
-        if (score >= 70.0) return "High";
-        if (score >= 50.0) return "Moderate";
-        return "Low";
+    public boolean isHighRisk() {
+        return "High".equalsIgnoreCase(dropoutRisk) || 
+               (riskProbability != null && riskProbability >= highRiskThreshold);
     }
     
     /**
-     * Check if student is at high risk
+     * Set the probability threshold isHighRisk uses (app.risk.high-threshold)
      */
-    public boolean isHighRisk() {
-        return "High".equalsIgnoreCase(dropoutRisk) || 
-               (riskProbability != null && riskProbability >= 70.0);
+    public static void useHighRiskThreshold(double threshold) {
+        highRiskThreshold = threshold;
     }
 }
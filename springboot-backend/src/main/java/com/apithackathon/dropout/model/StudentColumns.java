@@ -0,0 +1,120 @@
+package com.apithackathon.dropout.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Student Columns DTO - Columnar encoding of a student list for binary (CBOR/Smile) responses
+ * Field names are written once per column instead of once per row, and low-cardinality
+ * strings (district, category, risk level) are dictionary-encoded.
+ * Missing numeric values are encoded as NaN, missing dictionary values as code -1.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentColumns {
+    private Integer count;
+    private String[] studentId;
+    private DictionaryColumn district;
+    private double[] attendanceRate;
+    private double[] examScore;
+    private DictionaryColumn socioEconomicStatus;
+    private boolean[] transportAllowanceUsed;
+    private int[] migrationIndicator;
+    private DictionaryColumn gender;
+    private DictionaryColumn socialCategory;
+    private DictionaryColumn dropoutRisk;
+    private double[] riskProbability;
+    private double[] riskScore;
+    private DictionaryColumn predictedLabel;
+    
+    /**
+     * Build the columnar representation of a student list
+     */
+    public static StudentColumns from(List<Student> students) {
+        int n = students.size();
+        
+        String[] ids = new String[n];
+        double[] attendance = new double[n];
+        double[] exam = new double[n];
+        boolean[] transport = new boolean[n];
+        int[] migration = new int[n];
+        double[] probability = new double[n];
+        double[] score = new double[n];
+        
+        DictionaryEncoder districts = new DictionaryEncoder(n);
+        DictionaryEncoder socioEconomic = new DictionaryEncoder(n);
+        DictionaryEncoder genders = new DictionaryEncoder(n);
+        DictionaryEncoder categories = new DictionaryEncoder(n);
+        DictionaryEncoder risks = new DictionaryEncoder(n);
+        DictionaryEncoder labels = new DictionaryEncoder(n);
+        
+        for (int i = 0; i < n; i++) {
+            Student s = students.get(i);
+            ids[i] = s.getStudentId();
+            attendance[i] = orNaN(s.getAttendanceRate());
+            exam[i] = orNaN(s.getExamScore());
+            transport[i] = Boolean.TRUE.equals(s.getTransportAllowanceUsed());
+            migration[i] = s.getMigrationIndicator() != null ? s.getMigrationIndicator() : 0;
+            probability[i] = orNaN(s.getRiskProbability());
+            score[i] = orNaN(s.getRiskScore());
+            
+            districts.add(i, s.getDistrict());
+            socioEconomic.add(i, s.getSocioEconomicStatus());
+            genders.add(i, s.getGender());
+            categories.add(i, s.getSocialCategory());
+            risks.add(i, s.getDropoutRisk());
+            labels.add(i, s.getPredictedLabel());
+        }
+        
+        return new StudentColumns(n, ids, districts.build(), attendance, exam,
+            socioEconomic.build(), transport, migration, genders.build(),
+            categories.build(), risks.build(), probability, score, labels.build());
+    }
+    
+    private static double orNaN(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+    
+    /**
+     * Dictionary-encoded string column: row i has value dictionary[codes[i]]
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DictionaryColumn {
+        private List<String> dictionary;
+        private int[] codes;
+    }
+    
+    private static class DictionaryEncoder {
+        private final Map<String, Integer> index = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private final int[] codes;
+        
+        DictionaryEncoder(int size) {
+            this.codes = new int[size];
+        }
+        
+        void add(int row, String value) {
+            if (value == null) {
+                codes[row] = -1;
+                return;
+            }
+            codes[row] = index.computeIfAbsent(value, v -> {
+                dictionary.add(v);
+                return dictionary.size() - 1;
+            });
+        }
+        
+        DictionaryColumn build() {
+            return new DictionaryColumn(dictionary, codes);
+        }
+    }
+}
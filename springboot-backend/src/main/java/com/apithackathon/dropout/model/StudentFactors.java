@@ -0,0 +1,42 @@
+package com.apithackathon.dropout.model;
+
+import com.apithackathon.dropout.model.projection.StudentRiskView;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * Student Factors - Immutable, detached copy of a student's risk inputs
+ * Used for in-memory population snapshots; what-if perturbations copy on write via with*().
+ */
+@Value
+@With
+public class StudentFactors implements RiskFactors {
+    String studentId;
+    String district;
+    Double attendanceRate;
+    Double examScore;
+    String socioEconomicStatus;
+    Boolean transportAllowanceUsed;
+    Integer migrationIndicator;
+    String gender;
+    String socialCategory;
+    
+    /**
+     * Stored model score, not an input; carried for point lookups (e.g. intervention logging)
+     */
+    Double riskScore;
+    
+    public static StudentFactors of(StudentRiskView s) {
+        return of(s, s.getRiskScore());
+    }
+    
+    public static StudentFactors of(Student s) {
+        return of(s, s.getRiskScore());
+    }
+    
+    private static StudentFactors of(RiskFactors s, Double riskScore) {
+        return new StudentFactors(s.getStudentId(), s.getDistrict(), s.getAttendanceRate(), s.getExamScore(),
+            s.getSocioEconomicStatus(), s.getTransportAllowanceUsed(), s.getMigrationIndicator(),
+            s.getGender(), s.getSocialCategory(), riskScore);
+    }
+}
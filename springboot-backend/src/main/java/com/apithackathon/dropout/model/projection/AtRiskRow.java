@@ -0,0 +1,12 @@
+package com.apithackathon.dropout.model.projection;
+
+/**
+ * At-Risk Row - Read-only projection for at-risk lists, with the main risk drivers
+ */
+public interface AtRiskRow extends StudentListRow {
+    Double getAttendanceRate();
+    Double getExamScore();
+    String getSocioEconomicStatus();
+    Boolean getTransportAllowanceUsed();
+    Integer getMigrationIndicator();
+}
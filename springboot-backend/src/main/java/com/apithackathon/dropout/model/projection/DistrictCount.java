@@ -0,0 +1,9 @@
+package com.apithackathon.dropout.model.projection;
+
+/**
+ * District Count - One GROUP BY district count row
+ */
+public interface DistrictCount {
+    String getDistrict();
+    Long getTotal();
+}
@@ -0,0 +1,11 @@
+package com.apithackathon.dropout.model.projection;
+
+/**
+ * Id Range - Lowest and highest primary key of a table
+ */
+public interface IdRange {
+    
+    Long getMinId();
+    
+    Long getMaxId();
+}
@@ -0,0 +1,19 @@
+package com.apithackathon.dropout.model.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Latest Intervention Row - Most recent intervention of a student
+ */
+public interface LatestInterventionRow {
+    
+    Long getId();
+    
+    String getStudentId();
+    
+    String getType();
+    
+    String getStatus();
+    
+    LocalDateTime getInterventionDate();
+}
@@ -0,0 +1,12 @@
+package com.apithackathon.dropout.model.projection;
+
+/**
+ * Risk Level Count - One GROUP BY (district, risk level) row of the students table
+ */
+public interface RiskLevelCount {
+    String getDistrict();
+    String getRiskLevel();
+    Long getStudents();
+    Double getRiskScoreSum();
+    Long getRiskScoreCount();
+}
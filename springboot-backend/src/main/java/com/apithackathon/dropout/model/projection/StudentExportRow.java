@@ -0,0 +1,9 @@
+package com.apithackathon.dropout.model.projection;
+
+/**
+ * Student Export Row - Keyset-paged projection of the columns written by exports
+ */
+public interface StudentExportRow extends StudentRescoreRow {
+    
+    String getDropoutRisk();
+}
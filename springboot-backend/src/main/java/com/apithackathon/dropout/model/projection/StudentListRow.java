@@ -0,0 +1,12 @@
+package com.apithackathon.dropout.model.projection;
+
+/**
+ * Student List Row - Read-only projection for district student lists
+ */
+public interface StudentListRow {
+    String getStudentId();
+    String getDistrict();
+    String getDropoutRisk();
+    Double getRiskScore();
+    Double getRiskProbability();
+}
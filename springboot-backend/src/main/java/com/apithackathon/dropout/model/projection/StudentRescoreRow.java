@@ -0,0 +1,13 @@
+package com.apithackathon.dropout.model.projection;
+
+/**
+ * Student Rescore Row - Keyset-paged projection read by the batch re-scoring job
+ */
+public interface StudentRescoreRow extends StudentRiskView {
+    
+    Long getId();
+    
+    Double getRiskProbability();
+    
+    String getPredictedLabel();
+}
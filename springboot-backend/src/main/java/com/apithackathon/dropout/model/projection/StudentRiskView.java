@@ -0,0 +1,12 @@
+package com.apithackathon.dropout.model.projection;
+
+import com.apithackathon.dropout.model.RiskFactors;
+
+/**
+ * Student Risk View - Read-only projection of the columns needed to score a student
+ * plus the stored model score
+ */
+public interface StudentRiskView extends RiskFactors {
+    
+    Double getRiskScore();
+}
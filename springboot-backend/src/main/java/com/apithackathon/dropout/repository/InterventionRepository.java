@@ -1,12 +1,15 @@
 package com.apithackathon.dropout.repository;
 
 import com.apithackathon.dropout.model.Intervention;
+import com.apithackathon.dropout.model.projection.DistrictCount;
+import com.apithackathon.dropout.model.projection.LatestInterventionRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -53,8 +56,24 @@ public interface InterventionRepository extends JpaRepository<Intervention, Long
      */
     Long countByDistrict(String district);
     
+    /**
+     * Count interventions per district
+     */
+    @Query("SELECT i.district AS district, COUNT(i) AS total FROM Intervention i GROUP BY i.district")
+    List<DistrictCount> countByDistrictGrouped();
+    
     /**
      * Count interventions by status
      */
     Long countByStatus(String status);
+    
+    /**
+     * Most recent intervention per student for a batch of students
+     * (ties on date return several rows; callers keep the highest id)
+     */
+    @Query("SELECT i.id AS id, i.studentId AS studentId, i.type AS type, i.status AS status, " +
+           "i.interventionDate AS interventionDate FROM Intervention i " +
+           "WHERE i.studentId IN :studentIds AND i.interventionDate = " +
+           "(SELECT MAX(i2.interventionDate) FROM Intervention i2 WHERE i2.studentId = i.studentId)")
+    List<LatestInterventionRow> findLatestByStudentIdIn(@Param("studentIds") Collection<String> studentIds);
 }
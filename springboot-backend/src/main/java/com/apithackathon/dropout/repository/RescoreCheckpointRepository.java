@@ -0,0 +1,24 @@
+package com.apithackathon.dropout.repository;
+
+import com.apithackathon.dropout.model.RescoreCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Rescore Checkpoint Repository - Data access layer for batch re-scoring progress
+ */
+@Repository
+public interface RescoreCheckpointRepository extends JpaRepository<RescoreCheckpoint, Long> {
+    
+    /**
+     * Partitions of unfinished runs, to resume after a restart
+     */
+    List<RescoreCheckpoint> findByDoneFalseOrderByPartitionNo();
+    
+    /**
+     * Partitions of one run
+     */
+    List<RescoreCheckpoint> findByRunIdOrderByPartitionNo(String runId);
+}
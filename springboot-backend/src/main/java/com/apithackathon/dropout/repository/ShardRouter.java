@@ -0,0 +1,149 @@
+package com.apithackathon.dropout.repository;
+
+import com.apithackathon.dropout.config.ShardContext;
+import com.apithackathon.dropout.config.ShardMap;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Shard Router - Runs repository calls against the shard that owns a district
+ * and scatter-gathers state-wide queries across all shards in parallel.
+ * Without app.sharding.enabled every call runs directly on the single datasource.
+ */
+@Component
+public class ShardRouter {
+    
+    private final ShardMap shardMap;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+    private final ExecutorService executor;
+    
+    public ShardRouter(ObjectProvider<ShardMap> shardMap, PlatformTransactionManager transactionManager) {
+        this.shardMap = shardMap.getIfAvailable();
+        
+        // Each shard call gets its own transaction (and persistence context), since
+        // entity ids are only unique within a shard
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTemplate.setReadOnly(true);
+        
+        this.executor = this.shardMap != null
+            ? Executors.newFixedThreadPool(this.shardMap.getShards().size())
+            : null;
+    }
+    
+    public boolean isSharded() {
+        return shardMap != null;
+    }
+    
+    /**
+     * Run a read against the shard owning the district
+     */
+    public <T> T readDistrict(String district, Supplier<T> work) {
+        if (!isSharded()) {
+            return work.get();
+        }
+        return onShard(shardMap.shardFor(district), readTemplate, work);
+    }
+    
+    /**
+     * Run a write against the shard owning the district
+     */
+    public <T> T writeDistrict(String district, Supplier<T> work) {
+        if (!isSharded()) {
+            return work.get();
+        }
+        return onShard(shardMap.shardFor(district), writeTemplate, work);
+    }
+    
+    /**
+     * Run a read against the shard whose id range contains the id (see ShardMap.idRangeStart);
+     * null without running the work if no shard owns the id
+     */
+    public <T> T readById(long id, Supplier<T> work) {
+        if (!isSharded()) {
+            return work.get();
+        }
+        String shard = shardMap.shardForId(id);
+        return shard != null ? onShard(shard, readTemplate, work) : null;
+    }
+    
+    /**
+     * Shard names in order; a single null entry (the one datasource) when unsharded
+     */
+    public List<String> shardNames() {
+        return isSharded() ? shardMap.getShards() : Collections.singletonList(null);
+    }
+    
+    /**
+     * Run work in its own write transaction on a shard from shardNames()
+     * Unlike writeDistrict, this always opens a transaction, also when unsharded.
+     */
+    public <T> T inShardTransaction(String shard, Supplier<T> work) {
+        if (!isSharded()) {
+            return writeTemplate.execute(status -> work.get());
+        }
+        return onShard(shard, writeTemplate, work);
+    }
+    
+    /**
+     * Run a read in its own read-only transaction on a shard from shardNames()
+     */
+    public <T> T readShard(String shard, Supplier<T> work) {
+        if (!isSharded()) {
+            return readTemplate.execute(status -> work.get());
+        }
+        return onShard(shard, readTemplate, work);
+    }
+    
+    /**
+     * Run a read on every shard in parallel; one result per shard, in shard order
+     */
+    public <T> List<T> scatter(Supplier<T> work) {
+        if (!isSharded()) {
+            return Collections.singletonList(work.get());
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>();
+        for (String shard : shardMap.getShards()) {
+            futures.add(CompletableFuture.supplyAsync(() -> onShard(shard, readTemplate, work), executor));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return results;
+    }
+    
+    private <T> T onShard(String shard, TransactionTemplate template, Supplier<T> work) {
+        return ShardContext.callOn(shard, () -> template.execute(status -> work.get()));
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
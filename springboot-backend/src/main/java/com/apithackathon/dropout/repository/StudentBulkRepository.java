@@ -0,0 +1,235 @@
+package com.apithackathon.dropout.repository;
+
+import com.apithackathon.dropout.config.IdSequenceInitializer;
+import com.apithackathon.dropout.config.ShardContext;
+import com.apithackathon.dropout.model.Intervention;
+import com.apithackathon.dropout.model.Student;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * Student Bulk Repository - JDBC fast path for bulk student upserts, intervention inserts
+ * and batch risk score updates
+ * Skips entity hydration, dirty checking and the persistence context; rows are sent as
+ * JDBC batches. Ids come from the same sequences as the JPA mappings, a block at a time
+ * like Hibernate's pooled optimizer, so both paths can be mixed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentBulkRepository {
+    
+    /**
+     * students column -> parameter name (id excluded, it comes from student_seq)
+     */
+    private static final Map<String, String> STUDENT_COLUMNS = new LinkedHashMap<>();
+    static {
+        STUDENT_COLUMNS.put("student_id", "studentId");
+        STUDENT_COLUMNS.put("district", "district");
+        STUDENT_COLUMNS.put("attendance_rate", "attendanceRate");
+        STUDENT_COLUMNS.put("exam_score", "examScore");
+        STUDENT_COLUMNS.put("socio_economic_status", "socioEconomicStatus");
+        STUDENT_COLUMNS.put("transport_allowance_used", "transportAllowanceUsed");
+        STUDENT_COLUMNS.put("migration_indicator", "migrationIndicator");
+        STUDENT_COLUMNS.put("gender", "gender");
+        STUDENT_COLUMNS.put("social_category", "socialCategory");
+        STUDENT_COLUMNS.put("dropout_risk", "dropoutRisk");
+        STUDENT_COLUMNS.put("risk_probability", "riskProbability");
+        STUDENT_COLUMNS.put("risk_score", "riskScore");
+        STUDENT_COLUMNS.put("predicted_label", "predictedLabel");
+    }
+    
+    private static final String INSERT_INTERVENTION_SQL =
+        "INSERT INTO interventions (id, student_id, intervention_type, description, actioned_by, " +
+        "district, risk_score, status, intervention_date, created_at, updated_at) " +
+        "VALUES (:id, :studentId, :type, :description, :actionedBy, :district, :riskScore, " +
+        ":status, :interventionDate, :createdAt, :updatedAt)";
+    
+    private static final String UPDATE_RISK_SQL =
+        "UPDATE students SET risk_score = :riskScore, risk_probability = :riskScore, " +
+        "predicted_label = :predictedLabel WHERE id = :id";
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    
+    /**
+     * Unused ids per shard and sequence
+     */
+    private final ConcurrentMap<String, IdBlock> idBlocks = new ConcurrentHashMap<>();
+    
+    private volatile Boolean postgres;
+    
+    /**
+     * Insert or update students by student_id in JDBC batches
+     */
+    @Transactional
+    public int upsertStudents(List<Student> students) {
+        if (students.isEmpty()) {
+            return 0;
+        }
+        long[] ids = allocateIds("student_seq", students.size());
+        SqlParameterSource[] batch = new SqlParameterSource[students.size()];
+        for (int i = 0; i < batch.length; i++) {
+            // Rows that turn out to be updates leave their id unused
+            batch[i] = studentParameters(students.get(i)).addValue("id", ids[i]);
+        }
+        return sum(jdbcTemplate.batchUpdate(upsertStudentSql(), batch));
+    }
+    
+    /**
+     * Insert interventions in JDBC batches
+     * Defaults normally applied by the entity lifecycle callbacks are applied here.
+     */
+    @Transactional
+    public int insertInterventions(List<Intervention> interventions) {
+        if (interventions.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        PrimitiveIterator.OfLong ids = Arrays.stream(allocateIds("intervention_seq", interventions.size())).iterator();
+        SqlParameterSource[] batch = interventions.stream()
+            .map(i -> new MapSqlParameterSource()
+                .addValue("id", ids.nextLong())
+                .addValue("studentId", i.getStudentId())
+                .addValue("type", i.getType() == null || i.getType().isEmpty() ? "Counseling" : i.getType())
+                .addValue("description", i.getDescription())
+                .addValue("actionedBy", i.getActionedBy())
+                .addValue("district", i.getDistrict())
+                .addValue("riskScore", i.getRiskScore())
+                .addValue("status", i.getStatus() != null ? i.getStatus() : "pending")
+                .addValue("interventionDate", i.getInterventionDate() != null ? i.getInterventionDate() : now)
+                .addValue("createdAt", now)
+                .addValue("updatedAt", now))
+            .toArray(SqlParameterSource[]::new);
+        return sum(jdbcTemplate.batchUpdate(INSERT_INTERVENTION_SQL, batch));
+    }
+    
+    /**
+     * Re-scored model output for one student row
+     */
+    public record RiskScoreUpdate(Long id, double riskScore, String predictedLabel) {
+    }
+    
+    /**
+     * Write re-scored model outputs by primary key in JDBC batches
+     */
+    @Transactional
+    public int updateRiskScores(List<RiskScoreUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] batch = updates.stream()
+            .map(u -> new MapSqlParameterSource()
+                .addValue("id", u.id())
+                .addValue("riskScore", u.riskScore())
+                .addValue("predictedLabel", u.predictedLabel()))
+            .toArray(SqlParameterSource[]::new);
+        return sum(jdbcTemplate.batchUpdate(UPDATE_RISK_SQL, batch));
+    }
+    
+    private String upsertStudentSql() {
+        String columns = String.join(", ", STUDENT_COLUMNS.keySet());
+        String params = STUDENT_COLUMNS.values().stream()
+            .map(p -> ":" + p)
+            .collect(Collectors.joining(", "));
+        List<String> updatable = STUDENT_COLUMNS.keySet().stream()
+            .filter(c -> !c.equals("student_id"))
+            .toList();
+        
+        if (isPostgres()) {
+            return "INSERT INTO students (id, " + columns + ") VALUES (:id, " + params + ") " +
+                   "ON CONFLICT (student_id) DO UPDATE SET " +
+                   updatable.stream().map(c -> c + " = EXCLUDED." + c).collect(Collectors.joining(", "));
+        }
+        return "MERGE INTO students t USING (VALUES (:id, " + params + ")) AS s (id, " + columns + ") " +
+               "ON t.student_id = s.student_id " +
+               "WHEN MATCHED THEN UPDATE SET " +
+               updatable.stream().map(c -> c + " = s." + c).collect(Collectors.joining(", ")) + " " +
+               "WHEN NOT MATCHED THEN INSERT (id, " + columns + ") VALUES (s.id, " +
+               STUDENT_COLUMNS.keySet().stream().map(c -> "s." + c).collect(Collectors.joining(", ")) + ")";
+    }
+    
+    /**
+     * Next ids from the sequence on the current shard. A sequence value v reserves the block
+     * [v - 49, v] (increment 50), the same blocks Hibernate's pooled optimizer takes, so only
+     * one sequence call is made per 50 ids.
+     */
+    private long[] allocateIds(String sequence, int count) {
+        IdBlock block = idBlocks.computeIfAbsent(ShardContext.current() + ":" + sequence, k -> new IdBlock());
+        long[] ids = new long[count];
+        synchronized (block) {
+            for (int i = 0; i < count; i++) {
+                if (block.next > block.last) {
+                    Long value = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT " + nextValue(sequence), Long.class);
+                    block.last = value;
+                    block.next = Math.max(1, value - IdSequenceInitializer.ALLOCATION_SIZE + 1);
+                }
+                ids[i] = block.next++;
+            }
+        }
+        return ids;
+    }
+    
+    private static class IdBlock {
+        private long next = 1;
+        private long last = 0;
+    }
+    
+    private String nextValue(String sequence) {
+        return isPostgres() ? "nextval('" + sequence + "')" : "NEXT VALUE FOR " + sequence;
+    }
+    
+    private boolean isPostgres() {
+        if (postgres == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getJdbcTemplate().getDataSource(), DatabaseMetaData::getDatabaseProductName);
+                postgres = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (Exception e) {
+                postgres = false;
+            }
+        }
+        return postgres;
+    }
+    
+    private static MapSqlParameterSource studentParameters(Student s) {
+        return new MapSqlParameterSource()
+            .addValue("studentId", s.getStudentId())
+            .addValue("district", s.getDistrict())
+            .addValue("attendanceRate", s.getAttendanceRate())
+            .addValue("examScore", s.getExamScore())
+            .addValue("socioEconomicStatus", s.getSocioEconomicStatus())
+            .addValue("transportAllowanceUsed", s.getTransportAllowanceUsed())
+            .addValue("migrationIndicator", s.getMigrationIndicator())
+            .addValue("gender", s.getGender())
+            .addValue("socialCategory", s.getSocialCategory())
+            .addValue("dropoutRisk", s.getDropoutRisk())
+            .addValue("riskProbability", s.getRiskProbability())
+            .addValue("riskScore", s.getRiskScore())
+            .addValue("predictedLabel", s.getPredictedLabel());
+    }
+    
+    private static int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            // Drivers may report SUCCESS_NO_INFO (-2) for batched statements
+            total += count > 0 ? count : (count == Statement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return total;
+    }
+}
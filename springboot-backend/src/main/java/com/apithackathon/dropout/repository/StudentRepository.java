@@ -1,11 +1,23 @@
 package com.apithackathon.dropout.repository;
 
 import com.apithackathon.dropout.model.Student;
+import com.apithackathon.dropout.model.projection.AtRiskRow;
+import com.apithackathon.dropout.model.projection.IdRange;
+import com.apithackathon.dropout.model.projection.RiskLevelCount;
+import com.apithackathon.dropout.model.projection.StudentExportRow;
+import com.apithackathon.dropout.model.projection.StudentListRow;
+import com.apithackathon.dropout.model.projection.StudentRescoreRow;
+import com.apithackathon.dropout.model.projection.StudentRiskView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +32,15 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      */
     Optional<Student> findByStudentId(String studentId);
     
+    /**
+     * Find students by a batch of student IDs
+     */
+    List<Student> findByStudentIdIn(Collection<String> studentIds);
+    
     /**
      * Find all students in a district
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Student> findByDistrict(String district);
     
     /**
@@ -34,6 +52,7 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
      * Find high-risk students (custom query)
      */
     @Query("SELECT s FROM Student s WHERE s.dropoutRisk = 'High' OR s.riskProbability >= :threshold")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Student> findHighRiskStudents(@Param("threshold") Double threshold);
     
     /**
@@ -63,6 +82,82 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     @Query("SELECT AVG(s.riskScore) FROM Student s WHERE s.district = :district")
     Double getAverageRiskScoreByDistrict(@Param("district") String district);
     
+    /**
+     * Risk inputs for one student, without loading the entity
+     */
+    Optional<StudentRiskView> findRiskViewByStudentId(String studentId);
+    
+    /**
+     * Risk inputs for every student, without loading entities
+     */
+    List<StudentRiskView> findAllProjectedBy();
+    
+    /**
+     * Student list rows for a district, without loading entities
+     */
+    List<StudentListRow> findRowsByDistrict(String district);
+    
+    /**
+     * At-risk rows (same filter as findHighRiskStudents), without loading entities
+     */
+    @Query("SELECT s.studentId AS studentId, s.district AS district, s.dropoutRisk AS dropoutRisk, " +
+           "s.riskScore AS riskScore, s.riskProbability AS riskProbability, " +
+           "s.attendanceRate AS attendanceRate, s.examScore AS examScore, " +
+           "s.socioEconomicStatus AS socioEconomicStatus, " +
+           "s.transportAllowanceUsed AS transportAllowanceUsed, s.migrationIndicator AS migrationIndicator " +
+           "FROM Student s WHERE s.dropoutRisk = 'High' OR s.riskProbability >= :threshold " +
+           "ORDER BY s.riskProbability DESC")
+    List<AtRiskRow> findAtRiskRows(@Param("threshold") Double threshold);
+    
+    /**
+     * Student counts and risk score sums per risk level in a district
+     */
+    @Query("SELECT s.district AS district, s.dropoutRisk AS riskLevel, COUNT(s) AS students, " +
+           "SUM(s.riskScore) AS riskScoreSum, COUNT(s.riskScore) AS riskScoreCount " +
+           "FROM Student s WHERE s.district = :district GROUP BY s.district, s.dropoutRisk")
+    List<RiskLevelCount> countRiskLevelsByDistrict(@Param("district") String district);
+    
+    /**
+     * Student counts and risk score sums per district and risk level
+     */
+    @Query("SELECT s.district AS district, s.dropoutRisk AS riskLevel, COUNT(s) AS students, " +
+           "SUM(s.riskScore) AS riskScoreSum, COUNT(s.riskScore) AS riskScoreCount " +
+           "FROM Student s GROUP BY s.district, s.dropoutRisk")
+    List<RiskLevelCount> countRiskLevels();
+    
+    /**
+     * Lowest and highest student primary key, for partitioning batch jobs
+     */
+    @Query("SELECT MIN(s.id) AS minId, MAX(s.id) AS maxId FROM Student s")
+    IdRange findIdRange();
+    
+    /**
+     * Keyset chunk for batch re-scoring: id in (afterId, endId], ascending
+     */
+    List<StudentRescoreRow> findRescoreRowsByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+        Long afterId, Long endId, Pageable pageable);
+    
+    /**
+     * Keyset chunk of at-risk students (same filter as findHighRiskStudents) for exports
+     */
+    @Query("SELECT s.id AS id, s.studentId AS studentId, s.district AS district, " +
+           "s.attendanceRate AS attendanceRate, s.examScore AS examScore, " +
+           "s.socioEconomicStatus AS socioEconomicStatus, s.transportAllowanceUsed AS transportAllowanceUsed, " +
+           "s.migrationIndicator AS migrationIndicator, s.gender AS gender, s.socialCategory AS socialCategory, " +
+           "s.dropoutRisk AS dropoutRisk, s.riskScore AS riskScore, s.riskProbability AS riskProbability, " +
+           "s.predictedLabel AS predictedLabel " +
+           "FROM Student s WHERE s.id > :afterId AND (s.dropoutRisk = 'High' OR s.riskProbability >= :threshold) " +
+           "ORDER BY s.id")
+    List<StudentExportRow> findAtRiskExportChunk(@Param("afterId") Long afterId,
+                                                 @Param("threshold") Double threshold,
+                                                 Pageable pageable);
+    
+    /**
+     * Count of at-risk students (same filter as findHighRiskStudents)
+     */
+    @Query("SELECT COUNT(s) FROM Student s WHERE s.dropoutRisk = 'High' OR s.riskProbability >= :threshold")
+    long countAtRisk(@Param("threshold") Double threshold);
+    
     /**
      * Get all districts
      */
@@ -0,0 +1,92 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.model.FactorAttribution;
+import com.apithackathon.dropout.model.RiskFactor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Attribution Accumulator - Mergeable per-risk-level factor totals for one district (or the state)
+ * Flat primitive arrays: students per level, and risk points / affected students per
+ * (level, factor). Partial accumulators from parallel workers or shards are combined with merge().
+ */
+public class AttributionAccumulator {
+    
+    static final String[] LEVELS = {"High", "Moderate", "Low"};
+    
+    private final long[] students = new long[LEVELS.length];
+    private final double[] points = new double[LEVELS.length * RiskFactor.COUNT];
+    private final long[] affected = new long[LEVELS.length * RiskFactor.COUNT];
+    
+    /**
+     * Add one student's contribution vector under its risk level
+     */
+    public void add(String riskLevel, double[] contributions) {
+        int level = levelIndex(riskLevel);
+        if (level < 0) {
+            return;
+        }
+        students[level]++;
+        int base = level * RiskFactor.COUNT;
+        for (int f = 0; f < RiskFactor.COUNT; f++) {
+            if (contributions[f] > 0) {
+                points[base + f] += contributions[f];
+                affected[base + f]++;
+            }
+        }
+    }
+    
+    /**
+     * Fold another accumulator into this one
+     */
+    public AttributionAccumulator merge(AttributionAccumulator other) {
+        for (int i = 0; i < students.length; i++) {
+            students[i] += other.students[i];
+        }
+        for (int i = 0; i < points.length; i++) {
+            points[i] += other.points[i];
+            affected[i] += other.affected[i];
+        }
+        return this;
+    }
+    
+    /**
+     * Factor shares for one risk level
+     */
+    public FactorAttribution toAttribution(String district, String riskLevel, LocalDateTime computedAt) {
+        int level = levelIndex(riskLevel);
+        if (level < 0) {
+            throw new IllegalArgumentException("Unknown risk level: " + riskLevel);
+        }
+        int base = level * RiskFactor.COUNT;
+        double total = 0.0;
+        for (int f = 0; f < RiskFactor.COUNT; f++) {
+            total += points[base + f];
+        }
+        
+        List<FactorAttribution.FactorShare> shares = new ArrayList<>(RiskFactor.COUNT);
+        for (RiskFactor factor : RiskFactor.values()) {
+            int i = base + factor.ordinal();
+            shares.add(new FactorAttribution.FactorShare(
+                factor.getKey(),
+                factor.getLabel(),
+                points[i],
+                total > 0 ? points[i] / total : 0.0,
+                affected[i],
+                students[level] > 0 ? (double) affected[i] / students[level] : 0.0
+            ));
+        }
+        return new FactorAttribution(district, LEVELS[level], students[level], total, shares, computedAt);
+    }
+    
+    private static int levelIndex(String riskLevel) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i].equalsIgnoreCase(riskLevel)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,362 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.config.ExportProperties;
+import com.apithackathon.dropout.export.ArrowExportWriter;
+import com.apithackathon.dropout.export.CsvExportWriter;
+import com.apithackathon.dropout.export.ExportRecord;
+import com.apithackathon.dropout.export.ExportWriter;
+import com.apithackathon.dropout.model.ExportRequest;
+import com.apithackathon.dropout.model.ExportStatus;
+import com.apithackathon.dropout.model.projection.LatestInterventionRow;
+import com.apithackathon.dropout.model.projection.StudentExportRow;
+import com.apithackathon.dropout.repository.InterventionRepository;
+import com.apithackathon.dropout.repository.ShardRouter;
+import com.apithackathon.dropout.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Export Job Service - Asynchronous state-wide at-risk extracts (students + latest intervention)
+ * Students are read in keyset chunks per shard, joined with their latest intervention one
+ * chunk at a time and streamed into compressed, size-rolled files, so memory use does not
+ * depend on the row count. Files appear under their final name only once complete.
+ */
+@Service
+@EnableConfigurationProperties(ExportProperties.class)
+@Slf4j
+public class ExportJobService {
+    
+    private static final Set<String> FORMATS = Set.of("csv", "arrow");
+    
+    private static final Pattern JOB_ID = Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+    
+    private final ExportProperties properties;
+    private final StudentRepository studentRepository;
+    private final InterventionRepository interventionRepository;
+    private final ShardRouter shardRouter;
+    private final RiskPredictionService riskPredictionService;
+    private final ExecutorService executor;
+    private final BufferAllocator arrowAllocator;
+    
+    /**
+     * Most recent jobs by id, oldest evicted first
+     */
+    private final Map<String, Job> jobs;
+    
+    public ExportJobService(ExportProperties properties,
+                            StudentRepository studentRepository,
+                            InterventionRepository interventionRepository,
+                            ShardRouter shardRouter,
+                            RiskPredictionService riskPredictionService) {
+        this.properties = properties;
+        this.studentRepository = studentRepository;
+        this.interventionRepository = interventionRepository;
+        this.shardRouter = shardRouter;
+        this.riskPredictionService = riskPredictionService;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.getMaxConcurrentJobs()));
+        this.arrowAllocator = new RootAllocator(properties.getArrowMemoryLimit());
+        this.jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+                if (size() > properties.getMaxJobsRetained()) {
+                    evict(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+    
+    /**
+     * Remove job directories left by a previous run; jobs are only tracked in memory, so
+     * their files can no longer be downloaded
+     */
+    @PostConstruct
+    public void removeOrphanedJobs() {
+        Path root = Paths.get(properties.getDirectory());
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> entries = Files.list(root)) {
+            entries.filter(Files::isDirectory)
+                .filter(dir -> JOB_ID.matcher(dir.getFileName().toString()).matches())
+                .forEach(this::deleteDirectory);
+        } catch (IOException e) {
+            log.warn("Could not list export directory {}: {}", root, e.getMessage());
+        }
+    }
+    
+    /**
+     * Queue an export job; returns immediately with its status
+     */
+    public ExportStatus submit(ExportRequest request) {
+        String format = request.getFormat() != null ? request.getFormat().toLowerCase() : "csv";
+        if (!FORMATS.contains(format)) {
+            throw new IllegalArgumentException("format must be one of " + FORMATS);
+        }
+        double threshold = request.getThreshold() != null
+            ? request.getThreshold()
+            : riskPredictionService.getModerateRiskThreshold();
+        
+        Job job = new Job(UUID.randomUUID().toString(), format, threshold);
+        jobs.put(job.id, job);
+        executor.submit(() -> run(job));
+        log.info("Export job {} queued ({}, threshold {})", job.id, format, threshold);
+        return job.toStatus();
+    }
+    
+    public Optional<ExportStatus> getStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toStatus);
+    }
+    
+    /**
+     * Path of a completed file of a job; empty for unknown jobs or names
+     */
+    public Optional<Path> getFile(String jobId, String name) {
+        Job job = jobs.get(jobId);
+        if (job == null || job.files.stream().noneMatch(f -> f.getName().equals(name))) {
+            return Optional.empty();
+        }
+        return Optional.of(jobDirectory(jobId).resolve(name));
+    }
+    
+    private void run(Job job) {
+        if (job.evicted) {
+            return;
+        }
+        job.state = "RUNNING";
+        job.startedAt = LocalDateTime.now();
+        try {
+            job.totalRows = shardRouter.scatter(() -> studentRepository.countAtRisk(job.threshold))
+                .stream().mapToLong(Long::longValue).sum();
+            Path directory = Files.createDirectories(jobDirectory(job.id));
+            
+            try (RollingFiles files = new RollingFiles(job, directory)) {
+                PageRequest chunk = PageRequest.of(0, properties.getBatchSize());
+                for (String shard : shardRouter.shardNames()) {
+                    long afterId = Long.MIN_VALUE;
+                    while (true) {
+                        long cursor = afterId;
+                        List<ExportRecord> batch = shardRouter.readShard(shard, () -> readChunk(cursor, job.threshold, chunk));
+                        if (batch.isEmpty()) {
+                            break;
+                        }
+                        files.write(batch);
+                        job.rowsWritten.addAndGet(batch.size());
+                        afterId = batch.get(batch.size() - 1).student().getId();
+                    }
+                }
+                files.finish();
+            }
+            job.state = "COMPLETED";
+            log.info("Export job {} completed: {} rows in {} files", job.id, job.rowsWritten.get(), job.files.size());
+        } catch (Exception e) {
+            job.state = "FAILED";
+            job.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("Export job {} failed", job.id, e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            if (job.evicted) {
+                deleteDirectory(jobDirectory(job.id));
+            }
+        }
+    }
+    
+    /**
+     * Drop the files of a job no longer retained; a job still running deletes them when it ends
+     */
+    private void evict(Job job) {
+        job.evicted = true;
+        if (job.finishedAt != null) {
+            deleteDirectory(jobDirectory(job.id));
+        }
+    }
+    
+    private void deleteDirectory(Path directory) {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+            log.info("Removed export files {}", directory);
+        } catch (IOException e) {
+            log.warn("Could not remove export files {}: {}", directory, e.getMessage());
+        }
+    }
+    
+    /**
+     * One keyset chunk of at-risk students joined with their latest intervention
+     */
+    private List<ExportRecord> readChunk(long afterId, double threshold, PageRequest chunk) {
+        List<StudentExportRow> students = studentRepository.findAtRiskExportChunk(afterId, threshold, chunk);
+        if (students.isEmpty()) {
+            return List.of();
+        }
+        Map<String, LatestInterventionRow> latest = new HashMap<>();
+        interventionRepository.findLatestByStudentIdIn(students.stream()
+                .map(StudentExportRow::getStudentId)
+                .collect(Collectors.toSet()))
+            .forEach(i -> latest.merge(i.getStudentId(), i, (a, b) -> a.getId() >= b.getId() ? a : b));
+        
+        List<ExportRecord> records = new ArrayList<>(students.size());
+        for (StudentExportRow student : students) {
+            records.add(new ExportRecord(student, latest.get(student.getStudentId())));
+        }
+        return records;
+    }
+    
+    private Path jobDirectory(String jobId) {
+        return Paths.get(properties.getDirectory()).resolve(jobId);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        arrowAllocator.close();
+    }
+    
+    /**
+     * Size-rolled output files; each is written as .part and renamed once complete
+     */
+    private final class RollingFiles implements AutoCloseable {
+        
+        private final Job job;
+        private final Path directory;
+        private ExportWriter writer;
+        private Path partFile;
+        private long rowsInFile;
+        private int sequence;
+        
+        RollingFiles(Job job, Path directory) {
+            this.job = job;
+            this.directory = directory;
+        }
+        
+        void write(List<ExportRecord> batch) throws IOException {
+            if (writer != null && rowsInFile >= properties.getRowsPerFile()) {
+                finishFile();
+            }
+            if (writer == null) {
+                sequence++;
+                partFile = directory.resolve(fileName() + ".part");
+                writer = "arrow".equals(job.format)
+                    ? new ArrowExportWriter(partFile, arrowAllocator)
+                    : new CsvExportWriter(partFile);
+                rowsInFile = 0;
+            }
+            writer.write(batch);
+            rowsInFile += batch.size();
+        }
+        
+        private void finishFile() throws IOException {
+            writer.close();
+            writer = null;
+            Path target = directory.resolve(fileName());
+            Files.move(partFile, target, StandardCopyOption.ATOMIC_MOVE);
+            job.files.add(new ExportStatus.ExportFile(target.getFileName().toString(), rowsInFile, Files.size(target)));
+        }
+        
+        private String fileName() {
+            return String.format("at-risk-%05d.%s", sequence, "arrow".equals(job.format) ? "arrow" : "csv.gz");
+        }
+        
+        /**
+         * Complete the last file
+         */
+        void finish() throws IOException {
+            if (writer != null) {
+                finishFile();
+            }
+        }
+        
+        /**
+         * Discard an incomplete file (job failed before finish())
+         */
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } finally {
+                    writer = null;
+                    Files.deleteIfExists(partFile);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Live state of one job
+     */
+    private static final class Job {
+        private final String id;
+        private final String format;
+        private final double threshold;
+        private final AtomicLong rowsWritten = new AtomicLong();
+        private final List<ExportStatus.ExportFile> files = new CopyOnWriteArrayList<>();
+        private volatile String state = "QUEUED";
+        private volatile long totalRows = -1;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        private volatile boolean evicted;
+        
+        Job(String id, String format, double threshold) {
+            this.id = id;
+            this.format = format;
+            this.threshold = threshold;
+        }
+        
+        ExportStatus toStatus() {
+            long written = rowsWritten.get();
+            Double percent = totalRows > 0
+                ? Math.min(100.0, Math.round(written * 1000.0 / totalRows) / 10.0)
+                : ("COMPLETED".equals(state) ? 100.0 : null);
+            return new ExportStatus(
+                id,
+                format,
+                state,
+                threshold,
+                totalRows >= 0 ? totalRows : null,
+                written,
+                percent,
+                List.copyOf(files),
+                startedAt,
+                finishedAt,
+                error
+            );
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.config.AnalyticsProperties;
+import com.apithackathon.dropout.model.Intervention;
+import com.apithackathon.dropout.model.InterventionEffectiveness;
+import com.apithackathon.dropout.model.StudentFactors;
+import com.apithackathon.dropout.repository.InterventionRepository;
+import com.apithackathon.dropout.repository.ShardRouter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Intervention Analytics Service - Intervention effectiveness over weekly and monthly tumbling windows
+ * Each intervention is counted in its week and month window (per type and district) with the
+ * student's risk score at logging time as baseline. Risk scores observed afterwards (re-score
+ * chunks, bulk student updates) move its contribution incrementally: the previous follow-up is
+ * retracted and the new one added. Windows are seeded once from the interventions table during
+ * the startup warm-up; dashboards then read only the in-memory windows.
+ */
+@Service
+@Lazy(false)
+@EnableConfigurationProperties(AnalyticsProperties.class)
+@Slf4j
+public class InterventionAnalyticsService {
+    
+    private static final String UNKNOWN = "Unknown";
+    
+    private final AnalyticsProperties properties;
+    private final InterventionRepository interventionRepository;
+    private final ShardRouter shardRouter;
+    private final PopulationSnapshotService populationSnapshotService;
+    
+    private final Map<WindowKey, WindowAggregate> windows = new HashMap<>();
+    private final Map<String, List<TrackedIntervention>> byStudent = new HashMap<>();
+    private long tracked;
+    private LocalDateTime loadedAt;
+    private LocalDateTime updatedAt;
+    
+    public enum Granularity {
+        WEEK, MONTH;
+        
+        LocalDate windowStart(LocalDate date) {
+            return this == WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date.withDayOfMonth(1);
+        }
+        
+        LocalDate windowEnd(LocalDate start) {
+            return this == WEEK ? start.plusWeeks(1) : start.plusMonths(1);
+        }
+        
+        static Granularity parse(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT).replaceAll("LY$", ""));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("granularity must be week or month: " + value);
+            }
+        }
+    }
+    
+    private record WindowKey(Granularity granularity, LocalDate start, String type, String district) {
+    }
+    
+    /**
+     * Running totals of one window; follow-up sums cover measured interventions only
+     */
+    private static final class WindowAggregate {
+        long interventions;
+        long withBaseline;
+        long measured;
+        long improved;
+        long worsened;
+        double sumBaseline;
+        double sumFollowUp;
+        
+        void add(WindowAggregate other) {
+            interventions += other.interventions;
+            withBaseline += other.withBaseline;
+            measured += other.measured;
+            improved += other.improved;
+            worsened += other.worsened;
+            sumBaseline += other.sumBaseline;
+            sumFollowUp += other.sumFollowUp;
+        }
+    }
+    
+    /**
+     * One intervention still inside retention, with the windows it counts in
+     */
+    private static final class TrackedIntervention {
+        final LocalDateTime date;
+        final String type;
+        final Double baseline;
+        final WindowAggregate week;
+        final WindowAggregate month;
+        Double followUp;
+        
+        TrackedIntervention(LocalDateTime date, String type, Double baseline,
+                            WindowAggregate week, WindowAggregate month) {
+            this.date = date;
+            this.type = type;
+            this.baseline = baseline;
+            this.week = week;
+            this.month = month;
+        }
+    }
+    
+    /**
+     * A risk score read or written for a student at a point in time
+     */
+    public record RiskObservation(String studentId, double riskScore, LocalDateTime observedAt) {
+    }
+    
+    public InterventionAnalyticsService(AnalyticsProperties properties,
+                                        InterventionRepository interventionRepository,
+                                        ShardRouter shardRouter,
+                                        PopulationSnapshotService populationSnapshotService) {
+        this.properties = properties;
+        this.interventionRepository = interventionRepository;
+        this.shardRouter = shardRouter;
+        this.populationSnapshotService = populationSnapshotService;
+    }
+    
+    /**
+     * Seed the windows from interventions inside retention (all shards) and current student
+     * scores from the population snapshot; called once by StartupWarmupService
+     * The current score is the follow-up, also when it equals the baseline (no change).
+     */
+    public void load() {
+        long start = System.currentTimeMillis();
+        LocalDateTime from = retentionStart().atStartOfDay();
+        LocalDateTime to = LocalDateTime.now();
+        List<Intervention> interventions = shardRouter
+            .scatter(() -> interventionRepository.findByDateRange(from, to))
+            .stream()
+            .flatMap(List::stream)
+            .toList();
+        PopulationSnapshotService.Snapshot snapshot = populationSnapshotService.current();
+        int windowCount;
+        
+        synchronized (this) {
+            for (Intervention intervention : interventions) {
+                TrackedIntervention t = track(intervention);
+                if (t == null || t.baseline == null) {
+                    continue;
+                }
+                StudentFactors student = snapshot.index().get(intervention.getStudentId());
+                if (student != null && student.getRiskScore() != null) {
+                    observe(t, student.getRiskScore());
+                }
+            }
+            loadedAt = LocalDateTime.now();
+            updatedAt = loadedAt;
+            windowCount = windows.size();
+        }
+        log.info("Intervention analytics loaded {} interventions into {} windows in {} ms",
+                 interventions.size(), windowCount, System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * Count an intervention logged through the API once its transaction has committed,
+     * so a rolled-back insert is never counted
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterventionLogged(StudentService.InterventionLoggedEvent event) {
+        recordInterventions(List.of(event.intervention()));
+    }
+    
+    /**
+     * Count newly logged interventions (district and baseline score already resolved)
+     */
+    public synchronized void recordInterventions(List<Intervention> interventions) {
+        for (Intervention intervention : interventions) {
+            track(intervention);
+        }
+        updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * Apply risk scores observed after re-scoring or student updates; students without
+     * tracked interventions are skipped
+     */
+    public synchronized void recordRiskScores(List<RiskObservation> observations) {
+        boolean changed = false;
+        for (RiskObservation observation : observations) {
+            List<TrackedIntervention> list = byStudent.get(observation.studentId());
+            if (list == null) {
+                continue;
+            }
+            for (TrackedIntervention t : list) {
+                if (t.baseline != null && !t.date.isAfter(observation.observedAt())) {
+                    observe(t, observation.riskScore());
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            updatedAt = LocalDateTime.now();
+        }
+    }
+    
+    /**
+     * Effectiveness per window in [from, to] (window start dates), grouped by "type",
+     * "district", "type,district" or "none", plus one total row per group over the range
+     */
+    public synchronized InterventionEffectiveness getEffectiveness(String granularity, LocalDate from, LocalDate to,
+                                                                   String type, String district, String groupBy) {
+        Granularity g = Granularity.parse(granularity);
+        String grouping = groupBy == null ? "type" : groupBy.replace(" ", "").toLowerCase(Locale.ROOT);
+        if (!List.of("type", "district", "type,district", "district,type", "none").contains(grouping)) {
+            throw new IllegalArgumentException("groupBy must be type, district, type,district or none: " + groupBy);
+        }
+        boolean byType = grouping.contains("type");
+        boolean byDistrict = grouping.contains("district");
+        
+        LocalDate today = LocalDate.now();
+        LocalDate end = g.windowStart(to != null ? to : today);
+        LocalDate begin = g.windowStart(from != null ? from : (g == Granularity.WEEK ? today.minusWeeks(11) : today.minusMonths(11)));
+        if (begin.isAfter(end)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        
+        Comparator<WindowKey> order = Comparator.comparing(WindowKey::start)
+            .thenComparing(WindowKey::type, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(WindowKey::district, Comparator.nullsFirst(Comparator.naturalOrder()));
+        Map<WindowKey, WindowAggregate> grouped = new TreeMap<>(order);
+        Map<WindowKey, WindowAggregate> totals = new TreeMap<>(order);
+        for (Map.Entry<WindowKey, WindowAggregate> entry : windows.entrySet()) {
+            WindowKey key = entry.getKey();
+            if (key.granularity() != g || key.start().isBefore(begin) || key.start().isAfter(end)
+                || (type != null && !type.equalsIgnoreCase(key.type()))
+                || (district != null && !district.equalsIgnoreCase(key.district()))) {
+                continue;
+            }
+            String groupType = byType ? key.type() : null;
+            String groupDistrict = byDistrict ? key.district() : null;
+            grouped.computeIfAbsent(new WindowKey(g, key.start(), groupType, groupDistrict), k -> new WindowAggregate())
+                .add(entry.getValue());
+            totals.computeIfAbsent(new WindowKey(g, begin, groupType, groupDistrict), k -> new WindowAggregate())
+                .add(entry.getValue());
+        }
+        
+        InterventionEffectiveness result = new InterventionEffectiveness();
+        result.setGranularity(g.name().toLowerCase(Locale.ROOT));
+        result.setGroupBy(grouping);
+        result.setFrom(begin);
+        result.setTo(g.windowEnd(end).minusDays(1));
+        result.setMinRiskChange(properties.getMinRiskChange());
+        result.setTrackedInterventions(tracked);
+        result.setLoadedAt(loadedAt);
+        result.setUpdatedAt(updatedAt);
+        List<InterventionEffectiveness.WindowStats> rows = new ArrayList<>();
+        grouped.forEach((key, agg) -> rows.add(toStats(key, agg, g.windowEnd(key.start()))));
+        List<InterventionEffectiveness.WindowStats> totalRows = new ArrayList<>();
+        totals.forEach((key, agg) -> {
+            InterventionEffectiveness.WindowStats stats = toStats(key, agg, null);
+            stats.setWindowStart(null);
+            totalRows.add(stats);
+        });
+        result.setWindows(rows);
+        result.setTotals(totalRows);
+        return result;
+    }
+    
+    /**
+     * Drop windows and tracked interventions past retention
+     */
+    @Scheduled(cron = "${app.analytics.eviction-cron:0 5 0 * * *}")
+    public synchronized void evictExpired() {
+        LocalDate weekCutoff = weekRetentionStart();
+        LocalDate monthCutoff = retentionStart();
+        int before = windows.size();
+        windows.keySet().removeIf(key -> key.start().isBefore(
+            key.granularity() == Granularity.WEEK ? weekCutoff : monthCutoff));
+        LocalDateTime trackedCutoff = monthCutoff.atStartOfDay();
+        tracked = 0;
+        byStudent.values().removeIf(list -> {
+            list.removeIf(t -> t.date.isBefore(trackedCutoff));
+            tracked += list.size();
+            return list.isEmpty();
+        });
+        log.info("Intervention analytics evicted {} windows, {} interventions tracked", before - windows.size(), tracked);
+    }
+    
+    private LocalDate weekRetentionStart() {
+        return Granularity.WEEK.windowStart(LocalDate.now().minusWeeks(properties.getWeeksRetained()));
+    }
+    
+    private LocalDate retentionStart() {
+        return Granularity.MONTH.windowStart(LocalDate.now().minusMonths(properties.getMonthsRetained()));
+    }
+    
+    /**
+     * Add one intervention to its week and month windows; null if outside retention or
+     * already tracked (same student, type and date, e.g. logged while load() was running)
+     */
+    private TrackedIntervention track(Intervention intervention) {
+        LocalDateTime date = intervention.getInterventionDate() != null
+            ? intervention.getInterventionDate() : LocalDateTime.now();
+        if (date.toLocalDate().isBefore(retentionStart()) || intervention.getStudentId() == null) {
+            return null;
+        }
+        String type = intervention.getType() == null || intervention.getType().isEmpty()
+            ? "Counseling" : intervention.getType();
+        String district = intervention.getDistrict() != null ? intervention.getDistrict() : UNKNOWN;
+        
+        List<TrackedIntervention> list = byStudent.computeIfAbsent(intervention.getStudentId(), id -> new ArrayList<>(2));
+        for (TrackedIntervention existing : list) {
+            if (existing.date.equals(date) && existing.type.equals(type)) {
+                return null;
+            }
+        }
+        
+        LocalDate day = date.toLocalDate();
+        // Past weekly retention the week totals are not kept; the monthly window still counts it
+        WindowAggregate week = day.isBefore(weekRetentionStart()) ? new WindowAggregate() : windows.computeIfAbsent(
+            new WindowKey(Granularity.WEEK, Granularity.WEEK.windowStart(day), type, district), k -> new WindowAggregate());
+        WindowAggregate month = windows.computeIfAbsent(
+            new WindowKey(Granularity.MONTH, Granularity.MONTH.windowStart(day), type, district), k -> new WindowAggregate());
+        TrackedIntervention t = new TrackedIntervention(date, type, intervention.getRiskScore(), week, month);
+        for (WindowAggregate agg : new WindowAggregate[] {week, month}) {
+            agg.interventions++;
+            if (t.baseline != null) {
+                agg.withBaseline++;
+            }
+        }
+        list.add(t);
+        tracked++;
+        return t;
+    }
+    
+    /**
+     * Replace an intervention's follow-up score, retracting the previous one from its windows
+     */
+    private void observe(TrackedIntervention t, double score) {
+        if (t.followUp != null) {
+            if (Objects.equals(t.followUp, score)) {
+                return;
+            }
+            apply(t, -1);
+        }
+        t.followUp = score;
+        apply(t, 1);
+    }
+    
+    private void apply(TrackedIntervention t, int sign) {
+        double change = t.followUp - t.baseline;
+        for (WindowAggregate agg : new WindowAggregate[] {t.week, t.month}) {
+            agg.measured += sign;
+            agg.sumBaseline += sign * t.baseline;
+            agg.sumFollowUp += sign * t.followUp;
+            if (change <= -properties.getMinRiskChange()) {
+                agg.improved += sign;
+            } else if (change >= properties.getMinRiskChange()) {
+                agg.worsened += sign;
+            }
+        }
+    }
+    
+    private static InterventionEffectiveness.WindowStats toStats(WindowKey key, WindowAggregate agg, LocalDate windowEnd) {
+        InterventionEffectiveness.WindowStats stats = new InterventionEffectiveness.WindowStats();
+        stats.setWindowStart(key.start());
+        stats.setWindowEnd(windowEnd);
+        stats.setType(key.type());
+        stats.setDistrict(key.district());
+        stats.setInterventions(agg.interventions);
+        stats.setWithBaseline(agg.withBaseline);
+        stats.setMeasured(agg.measured);
+        stats.setImproved(agg.improved);
+        stats.setWorsened(agg.worsened);
+        if (agg.measured > 0) {
+            stats.setAvgBaselineScore(round(agg.sumBaseline / agg.measured));
+            stats.setAvgFollowUpScore(round(agg.sumFollowUp / agg.measured));
+            stats.setAvgRiskChange(round((agg.sumFollowUp - agg.sumBaseline) / agg.measured));
+            stats.setImprovementRate(round((double) agg.improved / agg.measured));
+        }
+        return stats;
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
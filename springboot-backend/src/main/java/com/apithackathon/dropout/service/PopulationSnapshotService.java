@@ -0,0 +1,94 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.model.StudentFactors;
+import com.apithackathon.dropout.repository.ShardRouter;
+import com.apithackathon.dropout.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Population Snapshot Service - Immutable in-memory copy of every student's risk inputs, by district
+ * Loaded from a read-only projection (all shards in parallel) and swapped atomically on refresh;
+ * analytics read it without touching the database or persisted entities.
+ */
+@Service
+@Lazy(false)
+@RequiredArgsConstructor
+@Slf4j
+public class PopulationSnapshotService {
+    
+    private final StudentRepository studentRepository;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private volatile Snapshot snapshot =
+        new Snapshot(Collections.emptyMap(), StudentIdIndex.build(List.of()), null);
+    
+    /**
+     * Event published after each refresh; loadStartedAt (epoch ms) is when the rows were read
+     */
+    public record PopulationRefreshedEvent(LocalDateTime refreshedAt, long loadStartedAt) {
+    }
+    
+    /**
+     * Immutable population: students by district, an ID index over them, plus load time
+     */
+    public record Snapshot(Map<String, List<StudentFactors>> byDistrict, StudentIdIndex index,
+                           LocalDateTime loadedAt) {
+        
+        public boolean isLoaded() {
+            return loadedAt != null;
+        }
+        
+        public List<StudentFactors> students(String district) {
+            if (district != null) {
+                return byDistrict.getOrDefault(district, List.of());
+            }
+            return byDistrict.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+        }
+    }
+    
+    /**
+     * Reload the snapshot; first loaded by StartupWarmupService, then on the refresh interval
+     */
+    @Scheduled(fixedDelayString = "${app.population.refresh-interval:600000}",
+               initialDelayString = "${app.population.refresh-interval:600000}")
+    public void refresh() {
+        long start = System.currentTimeMillis();
+        
+        Map<String, List<StudentFactors>> byDistrict = shardRouter
+            .scatter(() -> studentRepository.findAllProjectedBy().stream()
+                .map(StudentFactors::of)
+                .collect(Collectors.toList()))
+            .stream()
+            .flatMap(List::stream)
+            .collect(Collectors.groupingBy(StudentFactors::getDistrict, TreeMap::new,
+                                           Collectors.toUnmodifiableList()));
+        StudentIdIndex index = StudentIdIndex.build(byDistrict.values().stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList()));
+        LocalDateTime loadedAt = LocalDateTime.now();
+        snapshot = new Snapshot(Collections.unmodifiableMap(byDistrict), index, loadedAt);
+        
+        log.info("Population snapshot refreshed: {} students in {} districts in {} ms",
+                 index.size(), byDistrict.size(), System.currentTimeMillis() - start);
+        eventPublisher.publishEvent(new PopulationRefreshedEvent(loadedAt, start));
+    }
+    
+    public Snapshot current() {
+        return snapshot;
+    }
+}
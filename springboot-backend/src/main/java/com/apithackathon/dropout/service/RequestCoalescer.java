@@ -0,0 +1,55 @@
+package com.apithackathon.dropout.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Request Coalescer - Single-flight execution of identical concurrent requests
+ * The first caller for a key runs the work; callers arriving while it is in flight
+ * wait for and share its result. Call this outside any transaction, so waiting
+ * callers do not hold database connections.
+ */
+@Component
+public class RequestCoalescer {
+    
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    
+    @SuppressWarnings("unchecked")
+    public <T> T coalesce(String key, Supplier<T> work) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return (T) await(existing);
+        }
+        try {
+            T result = work.get();
+            mine.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too, so waiting callers are never left blocked on an incomplete future
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+    
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.model.FactorAttribution;
+import com.apithackathon.dropout.model.StudentFactors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Risk Attribution Service - Which of the 7 factors drive risk, per district and state-wide
+ * Each population snapshot is scored in parallel (per district, then per core) into
+ * mergeable per-district accumulators; requests read the last result instead of re-scoring.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RiskAttributionService {
+    
+    private final PopulationSnapshotService populationSnapshotService;
+    private final RiskPredictionService riskPredictionService;
+    
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), null);
+    
+    /**
+     * Rebuild the per-district accumulators whenever the population snapshot is refreshed
+     */
+    @EventListener
+    public void onPopulationRefreshed(PopulationSnapshotService.PopulationRefreshedEvent event) {
+        rebuild(event.refreshedAt());
+    }
+    
+    /**
+     * Re-score the current snapshot after a weight or threshold change
+     */
+    @EventListener
+    public void onRiskModelChanged(RiskPredictionService.RiskModelChangedEvent event) {
+        rebuild(event.changedAt());
+    }
+    
+    private synchronized void rebuild(LocalDateTime computedAt) {
+        long start = System.currentTimeMillis();
+        
+        Map<String, AttributionAccumulator> byDistrict = new TreeMap<>();
+        populationSnapshotService.current().byDistrict().entrySet().parallelStream()
+            .map(e -> Map.entry(e.getKey(), accumulate(e.getValue())))
+            .collect(Collectors.toList())
+            .forEach(e -> byDistrict.put(e.getKey(), e.getValue()));
+        snapshot = new Snapshot(byDistrict, computedAt);
+        
+        log.info("Risk attribution refreshed for {} districts in {} ms",
+                 byDistrict.size(), System.currentTimeMillis() - start);
+    }
+    
+    /**
+     * Factor attribution for one district and risk level
+     */
+    public Optional<FactorAttribution> getDistrictAttribution(String district, String riskLevel) {
+        Snapshot current = snapshot;
+        AttributionAccumulator acc = current.byDistrict().get(district);
+        return Optional.ofNullable(acc)
+            .map(a -> a.toAttribution(district, riskLevel, current.computedAt()));
+    }
+    
+    /**
+     * State-wide factor attribution for a risk level
+     */
+    public FactorAttribution getStateAttribution(String riskLevel) {
+        Snapshot current = snapshot;
+        AttributionAccumulator total = new AttributionAccumulator();
+        current.byDistrict().values().forEach(total::merge);
+        return total.toAttribution(null, riskLevel, current.computedAt());
+    }
+    
+    private AttributionAccumulator accumulate(List<StudentFactors> students) {
+        return students.parallelStream().collect(
+            AttributionAccumulator::new,
+            (acc, student) -> {
+                double[] contributions = riskPredictionService.factorContributions(student);
+                double score = 0.0;
+                for (double contribution : contributions) {
+                    score += contribution;
+                }
+                acc.add(riskPredictionService.riskLevelFor(score), contributions);
+            },
+            AttributionAccumulator::merge);
+    }
+    
+    private record Snapshot(Map<String, AttributionAccumulator> byDistrict, LocalDateTime computedAt) {
+    }
+}
@@ -0,0 +1,230 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.config.RiskModelProperties;
+import com.apithackathon.dropout.model.RiskFactor;
+import com.apithackathon.dropout.model.RiskFactors;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Risk Model - Immutable evaluator compiled from a RiskModelProperties definition
+ * Numeric factors become sorted band tables, categorical factors case-insensitive value
+ * tables (plus an index table for 0..n values such as the migration indicator).
+ * Instances are swapped atomically by RiskPredictionService; never mutated.
+ */
+public final class RiskModel {
+    
+    private static final int NUMERIC_FACTORS_MASK =
+        (1 << RiskFactor.ATTENDANCE.ordinal()) | (1 << RiskFactor.EXAM_SCORE.ordinal());
+    
+    private final long version;
+    private final LocalDateTime compiledAt;
+    private final double highThreshold;
+    private final double moderateThreshold;
+    private final BandTable[] bandTables = new BandTable[RiskFactor.COUNT];
+    private final CategoryTable[] categoryTables = new CategoryTable[RiskFactor.COUNT];
+    
+    private RiskModel(long version, double highThreshold, double moderateThreshold) {
+        this.version = version;
+        this.compiledAt = LocalDateTime.now();
+        this.highThreshold = highThreshold;
+        this.moderateThreshold = moderateThreshold;
+    }
+    
+    /**
+     * Validate and compile a definition; throws IllegalArgumentException for invalid rules
+     */
+    public static RiskModel compile(RiskModelProperties definition, long version) {
+        if (definition.getModerateThreshold() <= 0 || definition.getHighThreshold() <= definition.getModerateThreshold()) {
+            throw new IllegalArgumentException("Risk thresholds must satisfy 0 < moderate < high");
+        }
+        RiskModel model = new RiskModel(version, definition.getHighThreshold(), definition.getModerateThreshold());
+        
+        Map<RiskFactor, RiskModelProperties.FactorRule> rules = RiskModelProperties.defaultRules();
+        rules.putAll(definition.getRules());
+        for (RiskFactor factor : RiskFactor.values()) {
+            RiskModelProperties.FactorRule rule = rules.get(factor);
+            boolean numeric = (NUMERIC_FACTORS_MASK & (1 << factor.ordinal())) != 0;
+            if (numeric) {
+                if (!rule.getValues().isEmpty()) {
+                    throw new IllegalArgumentException(factor.getKey() + " takes bands, not values");
+                }
+                model.bandTables[factor.ordinal()] = BandTable.compile(factor, rule.getBands());
+            } else {
+                if (!rule.getBands().isEmpty()) {
+                    throw new IllegalArgumentException(factor.getKey() + " takes values, not bands");
+                }
+                model.categoryTables[factor.ordinal()] = CategoryTable.compile(factor, rule.getValues());
+            }
+        }
+        return model;
+    }
+    
+    /**
+     * Apply the 7 factors; fills contributions and, when non-null, reasons
+     */
+    double score(RiskFactors student, double[] contributions, List<String> reasons) {
+        band(RiskFactor.ATTENDANCE, student.getAttendanceRate(), contributions, reasons);
+        band(RiskFactor.EXAM_SCORE, student.getExamScore(), contributions, reasons);
+        category(RiskFactor.SOCIO_ECONOMIC_STATUS,
+                 table(RiskFactor.SOCIO_ECONOMIC_STATUS).get(student.getSocioEconomicStatus()), contributions, reasons);
+        Boolean transport = student.getTransportAllowanceUsed();
+        category(RiskFactor.TRANSPORT_ALLOWANCE,
+                 transport != null ? table(RiskFactor.TRANSPORT_ALLOWANCE).get(transport.toString()) : null,
+                 contributions, reasons);
+        Integer migration = student.getMigrationIndicator();
+        category(RiskFactor.MIGRATION,
+                 migration != null ? table(RiskFactor.MIGRATION).get(migration.intValue()) : null,
+                 contributions, reasons);
+        category(RiskFactor.GENDER, table(RiskFactor.GENDER).get(student.getGender()), contributions, reasons);
+        category(RiskFactor.SOCIAL_CATEGORY,
+                 table(RiskFactor.SOCIAL_CATEGORY).get(student.getSocialCategory()), contributions, reasons);
+        
+        double riskScore = 0.0;
+        for (double contribution : contributions) {
+            riskScore += contribution;
+        }
+        return riskScore;
+    }
+    
+    /**
+     * Risk level for a score
+     */
+    public String riskLevelFor(double score) {
+        if (score >= highThreshold) {
+            return "High";
+        } else if (score >= moderateThreshold) {
+            return "Moderate";
+        }
+        return "Low";
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public LocalDateTime getCompiledAt() {
+        return compiledAt;
+    }
+    
+    public double getHighThreshold() {
+        return highThreshold;
+    }
+    
+    public double getModerateThreshold() {
+        return moderateThreshold;
+    }
+    
+    private void band(RiskFactor factor, Double value, double[] contributions, List<String> reasons) {
+        if (value == null) {
+            return;
+        }
+        BandTable table = bandTables[factor.ordinal()];
+        int band = table.find(value);
+        if (band >= 0) {
+            contributions[factor.ordinal()] = table.points[band];
+            if (reasons != null && table.reasons[band] != null) {
+                reasons.add(String.format(table.reasons[band], value));
+            }
+        }
+    }
+    
+    private static void category(RiskFactor factor, Category category, double[] contributions, List<String> reasons) {
+        if (category == null) {
+            return;
+        }
+        contributions[factor.ordinal()] = category.points();
+        if (reasons != null && category.reason() != null) {
+            reasons.add(category.reason());
+        }
+    }
+    
+    private CategoryTable table(RiskFactor factor) {
+        return categoryTables[factor.ordinal()];
+    }
+    
+    private record Category(double points, String reason) {
+    }
+    
+    /**
+     * Ascending upper bounds; a value falls in the first band it is below
+     */
+    private record BandTable(double[] below, double[] points, String[] reasons) {
+        
+        static BandTable compile(RiskFactor factor, List<RiskModelProperties.Band> bands) {
+            List<RiskModelProperties.Band> sorted = bands.stream()
+                .sorted(Comparator.comparingDouble(RiskModelProperties.Band::getBelow))
+                .toList();
+            double[] below = new double[sorted.size()];
+            double[] points = new double[sorted.size()];
+            String[] reasons = new String[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                RiskModelProperties.Band band = sorted.get(i);
+                if (i > 0 && band.getBelow() == below[i - 1]) {
+                    throw new IllegalArgumentException(factor.getKey() + " has two bands below " + band.getBelow());
+                }
+                below[i] = band.getBelow();
+                points[i] = checkPoints(factor, band.getPoints());
+                reasons[i] = band.getReason();
+            }
+            return new BandTable(below, points, reasons);
+        }
+        
+        int find(double value) {
+            for (int i = 0; i < below.length; i++) {
+                if (value < below[i]) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+    
+    /**
+     * Value lookup without per-call allocation: case-insensitive by name, and by index
+     * for values that are small non-negative integers
+     */
+    private static final class CategoryTable {
+        
+        private static final int MAX_INDEXED = 16;
+        
+        private final Map<String, Category> byName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        private final Category[] byIndex = new Category[MAX_INDEXED];
+        
+        static CategoryTable compile(RiskFactor factor, Map<String, RiskModelProperties.Category> values) {
+            CategoryTable table = new CategoryTable();
+            values.forEach((value, category) -> {
+                Category compiled = new Category(checkPoints(factor, category.getPoints()), category.getReason());
+                table.byName.put(value, compiled);
+                try {
+                    int index = Integer.parseInt(value.trim());
+                    if (index >= 0 && index < MAX_INDEXED) {
+                        table.byIndex[index] = compiled;
+                    }
+                } catch (NumberFormatException e) {
+                    // not an indexed value
+                }
+            });
+            return table;
+        }
+        
+        Category get(String value) {
+            return value != null ? byName.get(value) : null;
+        }
+        
+        Category get(int value) {
+            return value >= 0 && value < MAX_INDEXED ? byIndex[value] : byName.get(Integer.toString(value));
+        }
+    }
+    
+    private static double checkPoints(RiskFactor factor, double points) {
+        if (points < 0 || Double.isNaN(points)) {
+            throw new IllegalArgumentException(factor.getKey() + " points must be >= 0");
+        }
+        return points;
+    }
+}
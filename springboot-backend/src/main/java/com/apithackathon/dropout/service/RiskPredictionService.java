@@ -1,82 +1,81 @@
 package com.apithackathon.dropout.service;
 
+import com.apithackathon.dropout.config.RiskModelProperties;
+import com.apithackathon.dropout.model.RiskFactor;
+import com.apithackathon.dropout.model.RiskFactors;
 import com.apithackathon.dropout.model.RiskScore;
 import com.apithackathon.dropout.model.Student;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Risk Prediction Service - AI/ML logic for calculating student dropout risk
- * Implements the 7-factor risk assessment model
+ * Implements the 7-factor risk assessment model; weights and thresholds come from
+ * app.risk.* and are compiled into an immutable RiskModel that can be swapped at runtime.
  */
 @Service
+@EnableConfigurationProperties(RiskModelProperties.class)
+@Slf4j
 public class RiskPredictionService {
     
-    private static final double HIGH_RISK_THRESHOLD = 70.0;
-    private static final double MODERATE_RISK_THRESHOLD = 50.0;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private volatile RiskModel model;
+    private volatile RiskModelProperties definition;
+    
+    /**
+     * Event published after a new model has been swapped in
+     */
+    public record RiskModelChangedEvent(long version, LocalDateTime changedAt) {
+    }
+    
+    public RiskPredictionService(RiskModelProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+        this.model = RiskModel.compile(properties, 1);
+        this.definition = properties;
+        Student.useHighRiskThreshold(model.getHighThreshold());
+    }
+    
+    /**
+     * Compile and atomically swap in a new definition; the current model stays active
+     * if the definition is invalid (IllegalArgumentException)
+     */
+    public synchronized RiskModel apply(RiskModelProperties newDefinition) {
+        RiskModel compiled = RiskModel.compile(newDefinition, model.getVersion() + 1);
+        model = compiled;
+        definition = newDefinition;
+        Student.useHighRiskThreshold(compiled.getHighThreshold());
+        log.info("Risk model v{} active (high >= {}, moderate >= {})",
+                 compiled.getVersion(), compiled.getHighThreshold(), compiled.getModerateThreshold());
+        eventPublisher.publishEvent(new RiskModelChangedEvent(compiled.getVersion(), compiled.getCompiledAt()));
+        return compiled;
+    }
+    
+    public RiskModel getModel() {
+        return model;
+    }
+    
+    public RiskModelProperties getDefinition() {
+        return definition;
+    }
     
     /**
      * Calculate risk score for a student based on 7 factors
      */
-    public RiskScore calculateRiskScore(Student student) {
+    public RiskScore calculateRiskScore(RiskFactors student) {
+        RiskModel current = model;
         List<String> reasons = new ArrayList<>();
-        double riskScore = 0.0;
-        
-        // Factor 1: Attendance Rate (weight: 30%)
-        if (student.getAttendanceRate() < 60) {
-            riskScore += 30;
-            reasons.add(String.format("Low attendance (%.1f%%)", student.getAttendanceRate()));
-        } else if (student.getAttendanceRate() < 75) {
-            riskScore += 15;
-            reasons.add(String.format("Moderate attendance (%.1f%%)", student.getAttendanceRate()));
-        }
-        
-        // Factor 2: Exam Score (weight: 25%)
-        if (student.getExamScore() < 45) {
-            riskScore += 25;
-            reasons.add(String.format("Below-average exam scores (%.1f)", student.getExamScore()));
-        } else if (student.getExamScore() < 65) {
-            riskScore += 12;
-            reasons.add(String.format("Average exam scores (%.1f)", student.getExamScore()));
-        }
-        
-        // Factor 3: Socio-Economic Status (weight: 15%)
-        if ("Low".equalsIgnoreCase(student.getSocioEconomicStatus())) {
-            riskScore += 15;
-            reasons.add("Low socio-economic status");
-        } else if ("Medium".equalsIgnoreCase(student.getSocioEconomicStatus())) {
-            riskScore += 7;
-        }
-        
-        // Factor 4: Transport Allowance (weight: 10%)
-        if (!student.getTransportAllowanceUsed()) {
-            riskScore += 10;
-            reasons.add("Transport allowance not utilized");
-        }
-        
-        // Factor 5: Migration Indicator (weight: 10%)
-        if (student.getMigrationIndicator() == 1) {
-            riskScore += 10;
-            reasons.add("Seasonal migrant family");
-        }
-        
-        // Factor 6: Gender (weight: 5%)
-        if ("Female".equalsIgnoreCase(student.getGender())) {
-            riskScore += 5;
-            reasons.add("Female student (higher dropout risk)");
-        }
-        
-        // Factor 7: Social Category (weight: 5%)
-        if ("ST".equalsIgnoreCase(student.getSocialCategory()) || 
-            "SC".equalsIgnoreCase(student.getSocialCategory())) {
-            riskScore += 5;
-            reasons.add("Belongs to ST/SC category");
-        }
+        double[] contributions = new double[RiskFactor.COUNT];
+        double riskScore = current.score(student, contributions, reasons);
         
         // Determine risk level
-        String riskLevel = determineRiskLevel(riskScore);
+        String riskLevel = current.riskLevelFor(riskScore);
         
         // Create response
         RiskScore result = new RiskScore();
@@ -86,6 +85,7 @@ public class RiskPredictionService {
         result.setRiskScore(riskScore);
         result.setReasons(reasons);
         result.setDistrict(student.getDistrict());
+        result.setFactorContributions(RiskFactor.toMap(contributions));
         
         // Add student details
         RiskScore.StudentDetails details = new RiskScore.StudentDetails(
@@ -103,16 +103,27 @@ public class RiskPredictionService {
     }
     
     /**
-     * Determine risk level based on score
+     * Per-factor contribution vector (risk points, indexed by RiskFactor ordinal)
+     * Sums to the risk score; skips building reason strings, for bulk use.
+     */
+    public double[] factorContributions(RiskFactors student) {
+        double[] contributions = new double[RiskFactor.COUNT];
+        model.score(student, contributions, null);
+        return contributions;
+    }
+    
+    /**
+     * Risk score only, for bulk re-scoring
+     */
+    public double scoreOf(RiskFactors student) {
+        return model.score(student, new double[RiskFactor.COUNT], null);
+    }
+    
+    /**
+     * Risk level for a score, using the model thresholds
      */
-    private String determineRiskLevel(double score) {
-        if (score >= HIGH_RISK_THRESHOLD) {
-            return "High";
-        } else if (score >= MODERATE_RISK_THRESHOLD) {
-            return "Moderate";
-        } else {
-            return "Low";
-        }
+    public String riskLevelFor(double score) {
+        return model.riskLevelFor(score);
     }
     
     /**
@@ -127,10 +138,10 @@ public class RiskPredictionService {
      * Get risk threshold values
      */
     public double getHighRiskThreshold() {
-        return HIGH_RISK_THRESHOLD;
+        return model.getHighThreshold();
     }
     
     public double getModerateRiskThreshold() {
-        return MODERATE_RISK_THRESHOLD;
+        return model.getModerateThreshold();
     }
 }
@@ -0,0 +1,414 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.config.RescoreProperties;
+import com.apithackathon.dropout.model.RescoreCheckpoint;
+import com.apithackathon.dropout.model.RescoreStatus;
+import com.apithackathon.dropout.model.projection.IdRange;
+import com.apithackathon.dropout.model.projection.StudentRescoreRow;
+import com.apithackathon.dropout.repository.RescoreCheckpointRepository;
+import com.apithackathon.dropout.repository.ShardRouter;
+import com.apithackathon.dropout.repository.StudentBulkRepository;
+import com.apithackathon.dropout.repository.StudentRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Risk Rescore Service - Nightly batch re-scoring of stored risk_score / risk_probability / predicted_label
+ * Each shard's id range is split into partitions processed by parallel workers. A partition
+ * reads keyset chunks, scores them and writes changed rows with JDBC batch updates; the
+ * chunk's updates and the partition checkpoint commit in one transaction, so an
+ * interrupted run resumes where it stopped. Workers back off while the pool is saturated.
+ */
+@Service
+@Lazy(false)
+@EnableConfigurationProperties(RescoreProperties.class)
+@Slf4j
+public class RiskRescoreService {
+    
+    private static final String[] SCORE_CACHES = {"students", "districtStudents", "districtStats"};
+    
+    private final RescoreProperties properties;
+    private final StudentRepository studentRepository;
+    private final StudentBulkRepository studentBulkRepository;
+    private final RescoreCheckpointRepository checkpointRepository;
+    private final ShardRouter shardRouter;
+    private final RiskPredictionService riskPredictionService;
+    private final PopulationSnapshotService populationSnapshotService;
+    private final InterventionAnalyticsService interventionAnalyticsService;
+    private final CacheManager cacheManager;
+    private final DataSource dataSource;
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor();
+    
+    private volatile Run current;
+    
+    private record PartitionTask(String shard, RescoreCheckpoint checkpoint) {
+    }
+    
+    public RiskRescoreService(RescoreProperties properties,
+                              StudentRepository studentRepository,
+                              StudentBulkRepository studentBulkRepository,
+                              RescoreCheckpointRepository checkpointRepository,
+                              ShardRouter shardRouter,
+                              RiskPredictionService riskPredictionService,
+                              PopulationSnapshotService populationSnapshotService,
+                              InterventionAnalyticsService interventionAnalyticsService,
+                              CacheManager cacheManager,
+                              ObjectProvider<DataSource> dataSource) {
+        this.properties = properties;
+        this.studentRepository = studentRepository;
+        this.studentBulkRepository = studentBulkRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.shardRouter = shardRouter;
+        this.riskPredictionService = riskPredictionService;
+        this.populationSnapshotService = populationSnapshotService;
+        this.interventionAnalyticsService = interventionAnalyticsService;
+        this.cacheManager = cacheManager;
+        this.dataSource = dataSource.getIfAvailable();
+    }
+    
+    @Scheduled(cron = "${app.rescore.cron:0 0 2 * * *}")
+    public void nightly() {
+        if (properties.isEnabled()) {
+            start("scheduled");
+        }
+    }
+    
+    /**
+     * Resume a run interrupted by a crash or shutdown, once the startup warm-up is done
+     */
+    @EventListener(StartupWarmupService.WarmupCompletedEvent.class)
+    public void resumeInterrupted() {
+        if (properties.isEnabled() && !unfinishedPartitions().isEmpty()) {
+            start("resume");
+        }
+    }
+    
+    @EventListener
+    public void onRiskModelChanged(RiskPredictionService.RiskModelChangedEvent event) {
+        if (properties.isEnabled() && properties.isOnModelChange()) {
+            start("model-change");
+        }
+    }
+    
+    /**
+     * Start a run in the background, resuming unfinished partitions if there are any;
+     * empty if a run is already in progress
+     */
+    public synchronized Optional<RescoreStatus> start(String trigger) {
+        if (current != null && current.isRunning()) {
+            log.info("Rescore ({}) skipped, run {} in progress", trigger, current.runId);
+            return Optional.empty();
+        }
+        List<PartitionTask> tasks = unfinishedPartitions();
+        boolean resumed = !tasks.isEmpty();
+        String runId = resumed ? tasks.get(0).checkpoint().getRunId() : UUID.randomUUID().toString();
+        long modelVersion = riskPredictionService.getModel().getVersion();
+        if (!resumed) {
+            tasks = planPartitions(runId, modelVersion);
+        }
+        long total = shardRouter.scatter(studentRepository::count).stream().mapToLong(Long::longValue).sum();
+        long alreadyProcessed = tasks.stream().mapToLong(t -> t.checkpoint().getProcessed()).sum();
+        
+        Run run = new Run(runId, trigger, resumed, modelVersion, tasks.size(), total, alreadyProcessed);
+        current = run;
+        List<PartitionTask> partitions = tasks;
+        coordinator.submit(() -> execute(run, partitions));
+        log.info("Rescore run {} started ({}, {} partitions, {} students{})",
+                 runId, trigger, tasks.size(), total, resumed ? ", resumed" : "");
+        return Optional.of(run.toStatus());
+    }
+    
+    /**
+     * Status of the current or last run; IDLE before the first run
+     */
+    public RescoreStatus getStatus() {
+        Run run = current;
+        if (run == null) {
+            RescoreStatus idle = new RescoreStatus();
+            idle.setState("IDLE");
+            return idle;
+        }
+        return run.toStatus();
+    }
+    
+    private void execute(Run run, List<PartitionTask> tasks) {
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, Math.min(properties.getWorkers(), tasks.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (PartitionTask task : tasks) {
+                futures.add(workers.submit(() -> runPartition(run, task)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    run.fail(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.fail(e);
+        } finally {
+            workers.shutdownNow();
+        }
+        
+        if (run.error != null) {
+            run.finish("FAILED");
+            log.error("Rescore run {} failed after {} students: {}", run.runId, run.processed.get(), run.error);
+            return;
+        }
+        run.finish("COMPLETED");
+        for (String name : SCORE_CACHES) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        populationSnapshotService.refresh();
+        log.info("Rescore run {} completed: {} students, {} changed, {} students/s",
+                 run.runId, run.processed.get(), run.changed.get(), run.toStatus().getStudentsPerSecond());
+    }
+    
+    private void runPartition(Run run, PartitionTask task) {
+        RescoreCheckpoint checkpoint = task.checkpoint();
+        PageRequest chunk = PageRequest.of(0, properties.getChunkSize());
+        try {
+            while (!checkpoint.getDone() && run.error == null) {
+                throttle(run, task.shard());
+                RescoreCheckpoint cursor = checkpoint;
+                int[] counts = new int[2];
+                List<InterventionAnalyticsService.RiskObservation> observations = new ArrayList<>();
+                checkpoint = shardRouter.inShardTransaction(task.shard(), () -> {
+                    List<StudentRescoreRow> rows = studentRepository
+                        .findRescoreRowsByIdGreaterThanAndIdLessThanEqualOrderByIdAsc(
+                            cursor.getLastId(), cursor.getEndId(), chunk);
+                    List<StudentBulkRepository.RiskScoreUpdate> updates = new ArrayList<>();
+                    LocalDateTime scoredAt = LocalDateTime.now();
+                    for (StudentRescoreRow row : rows) {
+                        double score = riskPredictionService.scoreOf(row);
+                        String level = riskPredictionService.riskLevelFor(score);
+                        observations.add(new InterventionAnalyticsService.RiskObservation(
+                            row.getStudentId(), score, scoredAt));
+                        if (!Objects.equals(row.getRiskScore(), score)
+                            || !Objects.equals(row.getRiskProbability(), score)
+                            || !level.equals(row.getPredictedLabel())) {
+                            updates.add(new StudentBulkRepository.RiskScoreUpdate(row.getId(), score, level));
+                        }
+                    }
+                    studentBulkRepository.updateRiskScores(updates);
+                    
+                    counts[0] = rows.size();
+                    counts[1] = updates.size();
+                    long lastId = rows.isEmpty() ? cursor.getEndId() : rows.get(rows.size() - 1).getId();
+                    cursor.setLastId(lastId);
+                    cursor.setProcessed(cursor.getProcessed() + rows.size());
+                    cursor.setChanged(cursor.getChanged() + updates.size());
+                    cursor.setDone(rows.size() < properties.getChunkSize() || lastId >= cursor.getEndId());
+                    return checkpointRepository.save(cursor);
+                });
+                run.processed.addAndGet(counts[0]);
+                run.changed.addAndGet(counts[1]);
+                // Follow-up scores for intervention effectiveness, once the chunk is committed
+                interventionAnalyticsService.recordRiskScores(observations);
+            }
+            if (checkpoint.getDone()) {
+                run.partitionsDone.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rescore interrupted", e);
+        }
+    }
+    
+    /**
+     * Wait while the shard's pool is saturated by live traffic, doubling the pause up to maxBackoff
+     */
+    private void throttle(Run run, String shard) throws InterruptedException {
+        long backoff = properties.getMinBackoff().toMillis();
+        HikariDataSource pool = poolFor(shard);
+        while (poolSaturated(pool)) {
+            run.throttleEvents.incrementAndGet();
+            run.throttledMs.addAndGet(backoff);
+            Thread.sleep(backoff);
+            backoff = Math.min(backoff * 2, properties.getMaxBackoff().toMillis());
+        }
+    }
+    
+    /**
+     * Hikari pool the shard's chunk writes go to, looked through the lazy proxy and the routing
+     * data source: the shard's pool when sharded, the primary under read/write routing
+     */
+    private HikariDataSource poolFor(String shard) {
+        DataSource target = dataSource;
+        while (target instanceof DelegatingDataSource delegating) {
+            target = delegating.getTargetDataSource();
+        }
+        if (target instanceof AbstractRoutingDataSource routing) {
+            target = shard != null ? routing.getResolvedDataSources().get(shard) : routing.getResolvedDefaultDataSource();
+        }
+        return target instanceof HikariDataSource hikari ? hikari : null;
+    }
+    
+    private boolean poolSaturated(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = pool != null ? pool.getHikariPoolMXBean() : null;
+        if (mxBean == null) {
+            return false;
+        }
+        return mxBean.getThreadsAwaitingConnection() > 0
+            || mxBean.getActiveConnections() >= pool.getMaximumPoolSize() * properties.getMaxPoolUtilization();
+    }
+    
+    private List<PartitionTask> unfinishedPartitions() {
+        List<PartitionTask> tasks = new ArrayList<>();
+        for (String shard : shardRouter.shardNames()) {
+            shardRouter.readShard(shard, checkpointRepository::findByDoneFalseOrderByPartitionNo)
+                .forEach(checkpoint -> tasks.add(new PartitionTask(shard, checkpoint)));
+        }
+        return tasks;
+    }
+    
+    /**
+     * Split each shard's id range into one partition per worker and persist the checkpoints
+     */
+    private List<PartitionTask> planPartitions(String runId, long modelVersion) {
+        List<PartitionTask> tasks = new ArrayList<>();
+        int workers = Math.max(1, properties.getWorkers());
+        LocalDateTime now = LocalDateTime.now();
+        for (String shard : shardRouter.shardNames()) {
+            IdRange range = shardRouter.readShard(shard, studentRepository::findIdRange);
+            if (range == null || range.getMinId() == null) {
+                continue;
+            }
+            long start = range.getMinId() - 1;
+            long width = Math.max(1, (range.getMaxId() - start + workers - 1) / workers);
+            List<RescoreCheckpoint> checkpoints = new ArrayList<>();
+            for (int p = 0; p < workers && start < range.getMaxId(); p++) {
+                long end = Math.min(range.getMaxId(), start + width);
+                RescoreCheckpoint checkpoint = new RescoreCheckpoint();
+                checkpoint.setRunId(runId);
+                checkpoint.setPartitionNo(p);
+                checkpoint.setModelVersion(modelVersion);
+                checkpoint.setLastId(start);
+                checkpoint.setEndId(end);
+                checkpoint.setStartedAt(now);
+                checkpoints.add(checkpoint);
+                start = end;
+            }
+            shardRouter.inShardTransaction(shard, () -> checkpointRepository.saveAll(checkpoints))
+                .forEach(checkpoint -> tasks.add(new PartitionTask(shard, checkpoint)));
+        }
+        return tasks;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        // Checkpoints are committed per chunk; an interrupted run resumes on the next start
+        coordinator.shutdownNow();
+    }
+    
+    /**
+     * Live counters of one run
+     */
+    private static final class Run {
+        private final String runId;
+        private final String trigger;
+        private final boolean resumed;
+        private final long modelVersion;
+        private final int partitions;
+        private final long totalStudents;
+        private final long processedBefore;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong processed;
+        private final AtomicLong changed = new AtomicLong();
+        private final AtomicLong throttleEvents = new AtomicLong();
+        private final AtomicLong throttledMs = new AtomicLong();
+        private final AtomicInteger partitionsDone = new AtomicInteger();
+        private volatile String state = "RUNNING";
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+        private volatile long endNanos;
+        
+        Run(String runId, String trigger, boolean resumed, long modelVersion, int partitions,
+            long totalStudents, long processedBefore) {
+            this.runId = runId;
+            this.trigger = trigger;
+            this.resumed = resumed;
+            this.modelVersion = modelVersion;
+            this.partitions = partitions;
+            this.totalStudents = totalStudents;
+            this.processedBefore = processedBefore;
+            this.processed = new AtomicLong(processedBefore);
+        }
+        
+        boolean isRunning() {
+            return "RUNNING".equals(state);
+        }
+        
+        /**
+         * Record the first failure; other partitions stop after their current chunk
+         */
+        synchronized void fail(Throwable cause) {
+            if (error == null) {
+                error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            }
+        }
+        
+        void finish(String finalState) {
+            endNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            state = finalState;
+        }
+        
+        RescoreStatus toStatus() {
+            long elapsedNanos = (isRunning() ? System.nanoTime() : endNanos) - startNanos;
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            double rate = seconds > 0 ? (processed.get() - processedBefore) / seconds : 0.0;
+            return new RescoreStatus(
+                runId,
+                state,
+                trigger,
+                resumed,
+                modelVersion,
+                partitions,
+                partitionsDone.get(),
+                totalStudents,
+                processed.get(),
+                changed.get(),
+                throttleEvents.get(),
+                throttledMs.get(),
+                Math.round(rate * 10.0) / 10.0,
+                startedAt,
+                finishedAt,
+                error
+            );
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.config.RiskModelProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Risk Rules Reloader - Hot-reloads app.risk.rules-file into the risk model
+ * The file uses the application.yml layout (app.risk.*) and is re-read when its
+ * modification time changes; an invalid file is logged and the active model is kept.
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+@Slf4j
+public class RiskRulesReloader {
+    
+    private final RiskModelProperties properties;
+    private final RiskPredictionService riskPredictionService;
+    
+    private long lastModified = -1;
+    
+    @Scheduled(fixedDelayString = "${app.risk.reload-interval:30000}", initialDelay = 0)
+    public synchronized void checkRulesFile() {
+        if (properties.getRulesFile() == null || properties.getRulesFile().isBlank()) {
+            return;
+        }
+        Path path = Paths.get(properties.getRulesFile());
+        try {
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            if (modified == lastModified) {
+                return;
+            }
+            lastModified = modified;
+            riskPredictionService.apply(load(path));
+            log.info("Risk rules loaded from {}", path);
+        } catch (IOException e) {
+            log.warn("Risk rules file {} not readable: {}", path, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Risk rules file {} rejected, keeping current model: {}", path, e.getMessage());
+        }
+    }
+    
+    /**
+     * Bind app.risk.* from the file; unset values fall back to the built-in defaults
+     */
+    private RiskModelProperties load(Path path) throws IOException {
+        List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+            .load("risk-rules", new FileSystemResource(path));
+        return new Binder(ConfigurationPropertySources.from(sources))
+            .bind("app.risk", RiskModelProperties.class)
+            .orElseGet(RiskModelProperties::new);
+    }
+}
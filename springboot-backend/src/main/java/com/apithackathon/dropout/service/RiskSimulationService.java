@@ -0,0 +1,208 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.model.SimulationRequest;
+import com.apithackathon.dropout.model.SimulationResult;
+import com.apithackathon.dropout.model.StudentFactors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Risk Simulation Service - What-if re-scoring of a district or cohort
+ * Works on the immutable population snapshot: perturbed students are copied (with*),
+ * the snapshot and the database are never modified. Scoring runs as a parallel
+ * reduction into a before x after risk level matrix.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RiskSimulationService {
+    
+    private static final String[] LEVELS = AttributionAccumulator.LEVELS;
+    
+    /**
+     * Resolution for deterministic partial uptake (see selected())
+     */
+    private static final int UPTAKE_BUCKETS = 10_000;
+    
+    private final PopulationSnapshotService populationSnapshotService;
+    private final RiskPredictionService riskPredictionService;
+    
+    /**
+     * Score the cohort as-is and with the scenario's perturbations applied
+     */
+    public SimulationResult simulate(SimulationRequest request) {
+        validate(request);
+        long start = System.currentTimeMillis();
+        
+        PopulationSnapshotService.Snapshot snapshot = populationSnapshotService.current();
+        List<StudentFactors> cohort = snapshot.students(request.getDistrict()).stream()
+            .filter(s -> matches(request.getGender(), s.getGender()))
+            .filter(s -> matches(request.getSocialCategory(), s.getSocialCategory()))
+            .filter(s -> matches(request.getSocioEconomicStatus(), s.getSocioEconomicStatus()))
+            .collect(Collectors.toList());
+        UnaryOperator<StudentFactors> scenario = perturbation(request);
+        
+        Tally tally = cohort.parallelStream().collect(
+            Tally::new,
+            (t, student) -> {
+                StudentFactors perturbed = scenario.apply(student);
+                t.add(riskPredictionService.scoreOf(student),
+                      perturbed == student ? -1 : riskPredictionService.scoreOf(perturbed));
+            },
+            Tally::merge);
+        
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Simulated {} students ({} perturbed) in {} ms", cohort.size(), tally.perturbed, elapsed);
+        return tally.toResult(request, snapshot, elapsed);
+    }
+    
+    /**
+     * Copy-on-write perturbation; returns the same instance when nothing changes
+     */
+    private static UnaryOperator<StudentFactors> perturbation(SimulationRequest request) {
+        double attendanceDelta = orZero(request.getAttendanceDelta());
+        double examDelta = orZero(request.getExamScoreDelta());
+        double transportUptake = orZero(request.getTransportAllowanceUptake());
+        double migrationReduction = orZero(request.getMigrationReduction());
+        
+        return student -> {
+            StudentFactors s = student;
+            if (attendanceDelta != 0) {
+                s = s.withAttendanceRate(clamp(s.getAttendanceRate() + attendanceDelta));
+            }
+            if (examDelta != 0) {
+                s = s.withExamScore(clamp(s.getExamScore() + examDelta));
+            }
+            if (!s.getTransportAllowanceUsed() && selected(s, transportUptake, 1)) {
+                s = s.withTransportAllowanceUsed(true);
+            }
+            if (s.getMigrationIndicator() == 1 && selected(s, migrationReduction, 2)) {
+                s = s.withMigrationIndicator(0);
+            }
+            return s;
+        };
+    }
+    
+    /**
+     * Deterministic partial selection: the same students are picked for the same fraction
+     * on every run, so repeated simulations are comparable
+     */
+    private static boolean selected(StudentFactors student, double fraction, int salt) {
+        if (fraction <= 0) {
+            return false;
+        }
+        if (fraction >= 1) {
+            return true;
+        }
+        int bucket = Math.floorMod(student.getStudentId().hashCode() * 31 + salt, UPTAKE_BUCKETS);
+        return bucket < fraction * UPTAKE_BUCKETS;
+    }
+    
+    private static void validate(SimulationRequest request) {
+        checkRange("attendanceDelta", request.getAttendanceDelta(), -100, 100);
+        checkRange("examScoreDelta", request.getExamScoreDelta(), -100, 100);
+        checkRange("transportAllowanceUptake", request.getTransportAllowanceUptake(), 0, 1);
+        checkRange("migrationReduction", request.getMigrationReduction(), 0, 1);
+    }
+    
+    private static void checkRange(String name, Double value, double min, double max) {
+        if (value != null && (value.isNaN() || value < min || value > max)) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+        }
+    }
+    
+    private static boolean matches(String filter, String value) {
+        return filter == null || filter.equalsIgnoreCase(value);
+    }
+    
+    private static double orZero(Double value) {
+        return value != null ? value : 0.0;
+    }
+    
+    private static double clamp(double value) {
+        return Math.max(0.0, Math.min(100.0, value));
+    }
+    
+    private static int levelIndex(String level) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i].equals(level)) {
+                return i;
+            }
+        }
+        return LEVELS.length - 1;
+    }
+    
+    /**
+     * Mergeable before x after level counts and score sums
+     */
+    private final class Tally {
+        private final long[] transitions = new long[LEVELS.length * LEVELS.length];
+        private long students;
+        private long perturbed;
+        private double scoreBefore;
+        private double scoreAfter;
+        
+        /**
+         * after < 0 means the student was not perturbed and keeps its score
+         */
+        void add(double before, double after) {
+            students++;
+            if (after < 0) {
+                after = before;
+            } else {
+                perturbed++;
+            }
+            scoreBefore += before;
+            scoreAfter += after;
+            int from = levelIndex(riskPredictionService.riskLevelFor(before));
+            int to = levelIndex(riskPredictionService.riskLevelFor(after));
+            transitions[from * LEVELS.length + to]++;
+        }
+        
+        Tally merge(Tally other) {
+            for (int i = 0; i < transitions.length; i++) {
+                transitions[i] += other.transitions[i];
+            }
+            students += other.students;
+            perturbed += other.perturbed;
+            scoreBefore += other.scoreBefore;
+            scoreAfter += other.scoreAfter;
+            return this;
+        }
+        
+        SimulationResult toResult(SimulationRequest request, PopulationSnapshotService.Snapshot snapshot, long elapsed) {
+            Map<String, Long> before = new LinkedHashMap<>();
+            Map<String, Long> after = new LinkedHashMap<>();
+            Map<String, Map<String, Long>> moves = new LinkedHashMap<>();
+            for (int from = 0; from < LEVELS.length; from++) {
+                Map<String, Long> row = new LinkedHashMap<>();
+                for (int to = 0; to < LEVELS.length; to++) {
+                    long count = transitions[from * LEVELS.length + to];
+                    row.put(LEVELS[to], count);
+                    before.merge(LEVELS[from], count, Long::sum);
+                    after.merge(LEVELS[to], count, Long::sum);
+                }
+                moves.put(LEVELS[from], row);
+            }
+            return new SimulationResult(
+                request,
+                students,
+                perturbed,
+                before,
+                after,
+                moves,
+                students > 0 ? Math.round(scoreBefore / students * 100.0) / 100.0 : 0.0,
+                students > 0 ? Math.round(scoreAfter / students * 100.0) / 100.0 : 0.0,
+                snapshot.loadedAt(),
+                elapsed
+            );
+        }
+    }
+}
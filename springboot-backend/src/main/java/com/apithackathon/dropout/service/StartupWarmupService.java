@@ -0,0 +1,111 @@
+package com.apithackathon.dropout.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+
+/**
+ * Startup Warm-up Service - Dataset load, population snapshot, analytics and cache warm-up after boot
+ * Runs on ApplicationReadyEvent, on a background thread when app.startup.background-warmup is set
+ * (fast-start profile) so the server starts accepting connections immediately; the "warmup"
+ * health indicator keeps the readiness probe OUT_OF_SERVICE until it completes.
+ */
+@Service
+@Lazy(false)
+@RequiredArgsConstructor
+@Slf4j
+public class StartupWarmupService {
+    
+    private final StudentService studentService;
+    private final PopulationSnapshotService populationSnapshotService;
+    private final InterventionAnalyticsService interventionAnalyticsService;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${app.startup.background-warmup:false}")
+    private boolean backgroundWarmup;
+    
+    private volatile State state = State.PENDING;
+    private volatile int studentsLoaded;
+    private volatile long warmupMs;
+    private volatile long readyAfterMs;
+    private volatile String error;
+    
+    public enum State { PENDING, RUNNING, COMPLETED, FAILED }
+    
+    /**
+     * Event published once the warm-up has finished (also after a failure)
+     */
+    public record WarmupCompletedEvent(boolean succeeded, int studentsLoaded, long warmupMs,
+                                       LocalDateTime completedAt) {
+    }
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (backgroundWarmup) {
+            Thread thread = new Thread(this::warmUp, "startup-warmup");
+            thread.setDaemon(true);
+            thread.start();
+        } else {
+            warmUp();
+        }
+    }
+    
+    private void warmUp() {
+        state = State.RUNNING;
+        long start = System.currentTimeMillis();
+        try {
+            studentsLoaded = studentService.loadKaggleDataset();
+            
+            // Snapshot refresh also rebuilds factor attribution and the student ID index
+            populationSnapshotService.refresh();
+            interventionAnalyticsService.load();
+            
+            // Dashboard entry points: district stats cache, aggregate queries, pool connections
+            for (String district : studentService.getAllDistricts()) {
+                studentService.getDistrictStats(district);
+            }
+            studentService.getAllDistrictStats();
+            studentService.getModelMetrics();
+            
+            state = State.COMPLETED;
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            state = State.FAILED;
+            log.error("Startup warm-up failed", e);
+        }
+        warmupMs = System.currentTimeMillis() - start;
+        readyAfterMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        log.info("Startup warm-up {} in {} ms ({} students loaded), ready {} ms after JVM start",
+                 state == State.COMPLETED ? "completed" : "failed", warmupMs, studentsLoaded, readyAfterMs);
+        eventPublisher.publishEvent(new WarmupCompletedEvent(
+            state == State.COMPLETED, studentsLoaded, warmupMs, LocalDateTime.now()));
+    }
+    
+    public State getState() {
+        return state;
+    }
+    
+    public int getStudentsLoaded() {
+        return studentsLoaded;
+    }
+    
+    public long getWarmupMs() {
+        return warmupMs;
+    }
+    
+    public long getReadyAfterMs() {
+        return readyAfterMs;
+    }
+    
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,84 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.model.StudentFactors;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Student ID Index - Immutable open-addressing hash index from student ID to snapshot row
+ * Linear probing over parallel arrays (cached hash, key, row) at <= 50% load, so a
+ * lookup is a few array reads and one equals() on a hit; a miss usually stops at the
+ * first empty slot without comparing strings.
+ */
+public final class StudentIdIndex {
+    
+    private static final int EMPTY = -1;
+    
+    private final int mask;
+    private final int[] hashes;
+    private final int[] slots;
+    private final StudentFactors[] rows;
+    
+    private StudentIdIndex(int capacity, StudentFactors[] rows) {
+        this.mask = capacity - 1;
+        this.hashes = new int[capacity];
+        this.slots = new int[capacity];
+        this.rows = rows;
+        Arrays.fill(slots, EMPTY);
+    }
+    
+    public static StudentIdIndex build(Collection<StudentFactors> students) {
+        StudentFactors[] rows = students.toArray(new StudentFactors[0]);
+        int capacity = Integer.highestOneBit(Math.max(2, rows.length * 2 - 1)) << 1;
+        StudentIdIndex index = new StudentIdIndex(capacity, rows);
+        for (int row = 0; row < rows.length; row++) {
+            index.insert(row);
+        }
+        return index;
+    }
+    
+    /**
+     * Snapshot row for an ID, or null
+     */
+    public StudentFactors get(String studentId) {
+        if (studentId == null) {
+            return null;
+        }
+        int hash = spread(studentId.hashCode());
+        for (int i = hash & mask; slots[i] != EMPTY; i = (i + 1) & mask) {
+            if (hashes[i] == hash && rows[slots[i]].getStudentId().equals(studentId)) {
+                return rows[slots[i]];
+            }
+        }
+        return null;
+    }
+    
+    public int size() {
+        return rows.length;
+    }
+    
+    private void insert(int row) {
+        String key = rows[row].getStudentId();
+        int hash = spread(key.hashCode());
+        int i = hash & mask;
+        while (slots[i] != EMPTY) {
+            if (hashes[i] == hash && rows[slots[i]].getStudentId().equals(key)) {
+                // Duplicate ID across shards: keep the first row
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        hashes[i] = hash;
+        slots[i] = row;
+    }
+    
+    /**
+     * Sequential IDs (KG0001, KG0002, ...) have clustered String hashes; mix the high bits in
+     */
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        return h ^ (h >>> 13);
+    }
+}
@@ -0,0 +1,169 @@
+package com.apithackathon.dropout.service;
+
+import com.apithackathon.dropout.model.Student;
+import com.apithackathon.dropout.model.StudentFactors;
+import com.apithackathon.dropout.repository.ShardRouter;
+import com.apithackathon.dropout.repository.StudentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Student Lookup Service - Point lookups by student ID without touching the database when warm
+ * Order: recent writes on this node, the population snapshot's ID index, a bounded negative
+ * cache of IDs recently confirmed missing, and only then the database. Not-found is an
+ * empty Optional, never an exception.
+ */
+@Service
+@Slf4j
+public class StudentLookupService {
+    
+    private final PopulationSnapshotService populationSnapshotService;
+    private final StudentRepository studentRepository;
+    private final ShardRouter shardRouter;
+    private final long negativeTtlMillis;
+    private final int negativeMaxSize;
+    
+    /**
+     * Students written on this node since the snapshot was read, with write time
+     */
+    private final Map<String, Written> recentWrites = new ConcurrentHashMap<>();
+    
+    /**
+     * Unknown ID -> expiry (epoch ms)
+     */
+    private final Map<String, Long> negativeCache = new ConcurrentHashMap<>();
+    
+    private final Counter overlayHits;
+    private final Counter indexHits;
+    private final Counter negativeHits;
+    private final Counter databaseHits;
+    private final Counter databaseMisses;
+    
+    private record Written(StudentFactors student, long writtenAt) {
+    }
+    
+    public StudentLookupService(PopulationSnapshotService populationSnapshotService,
+                                StudentRepository studentRepository,
+                                ShardRouter shardRouter,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.lookup.negative-cache-ttl:60000}") long negativeTtlMillis,
+                                @Value("${app.lookup.negative-cache-max-size:100000}") int negativeMaxSize) {
+        this.populationSnapshotService = populationSnapshotService;
+        this.studentRepository = studentRepository;
+        this.shardRouter = shardRouter;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.negativeMaxSize = negativeMaxSize;
+        this.overlayHits = lookupCounter(meterRegistry, "recent-write");
+        this.indexHits = lookupCounter(meterRegistry, "index");
+        this.negativeHits = lookupCounter(meterRegistry, "negative-cache");
+        this.databaseHits = lookupCounter(meterRegistry, "database");
+        this.databaseMisses = lookupCounter(meterRegistry, "database-miss");
+    }
+    
+    /**
+     * Risk inputs and stored score for a student ID
+     */
+    public Optional<StudentFactors> find(String studentId) {
+        if (studentId == null || studentId.isBlank()) {
+            return Optional.empty();
+        }
+        Written written = recentWrites.get(studentId);
+        if (written != null) {
+            overlayHits.increment();
+            return Optional.of(written.student());
+        }
+        
+        PopulationSnapshotService.Snapshot snapshot = populationSnapshotService.current();
+        StudentFactors indexed = snapshot.index().get(studentId);
+        if (indexed != null) {
+            indexHits.increment();
+            return Optional.of(indexed);
+        }
+        
+        long now = System.currentTimeMillis();
+        Long expiresAt = negativeCache.get(studentId);
+        if (expiresAt != null && expiresAt > now) {
+            negativeHits.increment();
+            return Optional.empty();
+        }
+        
+        // Cold node, or written by another node since the snapshot was read
+        Optional<StudentFactors> loaded = shardRouter
+            .scatter(() -> studentRepository.findRiskViewByStudentId(studentId))
+            .stream()
+            .flatMap(Optional::stream)
+            .findFirst()
+            .map(StudentFactors::of);
+        if (loaded.isPresent()) {
+            databaseHits.increment();
+            negativeCache.remove(studentId);
+            if (snapshot.isLoaded()) {
+                recentWrites.put(studentId, new Written(loaded.get(), now));
+            }
+        } else {
+            databaseMisses.increment();
+            rememberMissing(studentId, now);
+        }
+        return loaded;
+    }
+    
+    /**
+     * Full student row for an ID that find has confirmed, looked up on every shard (the student ID
+     * does not identify the district); StudentService calls it only after find, so only known IDs are cached
+     */
+    @Cacheable(value = "students", key = "#studentId", sync = true)
+    public Student loadStudent(String studentId) {
+        return shardRouter.scatter(() -> studentRepository.findByStudentId(studentId)).stream()
+            .flatMap(Optional::stream)
+            .findFirst()
+            .orElse(null);
+    }
+    
+    /**
+     * Record committed student writes so lookups see them before the next snapshot
+     */
+    public void recordWrites(Collection<Student> students) {
+        long now = System.currentTimeMillis();
+        for (Student student : students) {
+            recentWrites.put(student.getStudentId(), new Written(StudentFactors.of(student), now));
+            negativeCache.remove(student.getStudentId());
+        }
+    }
+    
+    /**
+     * Drop recent writes that the new snapshot already contains
+     */
+    @EventListener
+    public void onPopulationRefreshed(PopulationSnapshotService.PopulationRefreshedEvent event) {
+        recentWrites.values().removeIf(w -> w.writtenAt() < event.loadStartedAt());
+        long now = System.currentTimeMillis();
+        negativeCache.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+    
+    private void rememberMissing(String studentId, long now) {
+        if (negativeCache.size() >= negativeMaxSize) {
+            // Bounded: scanners cannot grow it without limit; expired entries go first
+            negativeCache.values().removeIf(expiresAt -> expiresAt <= now);
+            if (negativeCache.size() >= negativeMaxSize) {
+                negativeCache.clear();
+            }
+        }
+        negativeCache.put(studentId, now + negativeTtlMillis);
+    }
+    
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("app.student.lookup")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+}
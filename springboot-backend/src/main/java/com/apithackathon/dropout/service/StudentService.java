@@ -1,15 +1,22 @@
 package com.apithackathon.dropout.service;
 
 import com.apithackathon.dropout.model.*;
+import com.apithackathon.dropout.model.projection.AtRiskRow;
+import com.apithackathon.dropout.model.projection.DistrictCount;
+import com.apithackathon.dropout.model.projection.RiskLevelCount;
+import com.apithackathon.dropout.model.projection.StudentListRow;
 import com.apithackathon.dropout.repository.InterventionRepository;
+import com.apithackathon.dropout.repository.ShardRouter;
+import com.apithackathon.dropout.repository.StudentBulkRepository;
 import com.apithackathon.dropout.repository.StudentRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,24 +35,38 @@ import java.util.stream.Collectors;
 @Slf4j
 public class StudentService {
     
+    /**
+     * Published by logIntervention; transactional listeners receive it once the insert has committed
+     */
+    public record InterventionLoggedEvent(Intervention intervention) {
+    }
+    
     private final StudentRepository studentRepository;
+    private final StudentBulkRepository studentBulkRepository;
     private final InterventionRepository interventionRepository;
+    private final ShardRouter shardRouter;
     private final RiskPredictionService riskPredictionService;
+    private final StudentLookupService studentLookupService;
+    private final InterventionAnalyticsService interventionAnalyticsService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Value("${app.dataset.kaggle-file:../dataset_kaggle.json}")
     private String kaggleDatasetPath;
     
+    @Value("${app.persistence.jdbc-fast-path:false}")
+    private boolean jdbcFastPath;
+    
     /**
-     * Load Kaggle dataset on application startup
+     * Load Kaggle dataset; called once by StartupWarmupService
+     * Returns the number of students loaded (0 if the file is missing or invalid)
      */
-    @PostConstruct
-    public void loadKaggleDataset() {
+    public int loadKaggleDataset() {
         try {
             File datasetFile = new File(kaggleDatasetPath);
             if (!datasetFile.exists()) {
                 log.warn("Kaggle dataset not found at: {}", kaggleDatasetPath);
-                return;
+                return 0;
             }
             
             JsonNode root = objectMapper.readTree(datasetFile);
@@ -53,14 +74,22 @@ public class StudentService {
             
             if (studentsNode == null || !studentsNode.isArray()) {
                 log.error("Invalid dataset format");
-                return;
+                return 0;
             }
             
             List<Student> students = new ArrayList<>();
             for (JsonNode studentNode : studentsNode) {
                 Student student = new Student();
-                student.setStudentId(studentNode.get("id").asText());
-                student.setDistrict(studentNode.get("district").asText());
+                // dataset_kaggle.json uses "student_id"; "id" is the API field name
+                JsonNode id = studentNode.has("student_id") ? studentNode.get("student_id") : studentNode.get("id");
+                student.setStudentId(id.asText());
+                JsonNode district = studentNode.get("district");
+                if (district == null || district.isNull() || district.asText().isBlank()) {
+                    // Rows are stored on their district's shard; one without a district has nowhere to go
+                    log.warn("Skipping student {} without a district", student.getStudentId());
+                    continue;
+                }
+                student.setDistrict(district.asText());
                 student.setAttendanceRate(studentNode.get("attendance_rate").asDouble());
                 student.setExamScore(studentNode.get("exam_score").asDouble());
                 student.setSocioEconomicStatus(studentNode.get("socio_economic_status").asText());
@@ -83,116 +112,273 @@ public class StudentService {
                 students.add(student);
             }
             
-            // Batch save to database
-            studentRepository.saveAll(students);
+            // Batch save to database, one batch per district shard
+            students.stream()
+                .collect(Collectors.groupingBy(Student::getDistrict))
+                .forEach(this::saveDistrictStudents);
             
+            Map<String, Integer> distribution = getModelMetrics().getRiskDistribution();
             log.info("✅ Loaded {} students from Kaggle dataset", students.size());
-            log.info("✅ Districts: {}", studentRepository.findAllDistricts());
+            log.info("✅ Districts: {}", getAllDistricts());
             log.info("✅ High Risk: {}, Moderate: {}, Low: {}", 
-                     studentRepository.countByDropoutRisk("High"),
-                     studentRepository.countByDropoutRisk("Moderate"),
-                     studentRepository.countByDropoutRisk("Low"));
+                     distribution.get("high_risk"),
+                     distribution.get("moderate_risk"),
+                     distribution.get("low_risk"));
+            return students.size();
             
         } catch (IOException e) {
             log.error("Error loading Kaggle dataset", e);
+            return 0;
+        }
+    }
+    
+    /**
+     * Persist one district's students, via the JDBC fast path when enabled
+     */
+    private void saveDistrictStudents(String district, List<Student> students) {
+        if (jdbcFastPath) {
+            shardRouter.writeDistrict(district, () -> studentBulkRepository.upsertStudents(students));
+        } else {
+            shardRouter.writeDistrict(district, () -> studentRepository.saveAll(students));
+        }
+    }
+    
+    /**
+     * Bulk insert or update students by student ID (JDBC fast path)
+     */
+    @CacheEvict(value = {"students", "districtStudents", "districtStats"}, allEntries = true)
+    public int upsertStudents(List<Student> students) {
+        for (Student student : students) {
+            if (student.getStudentId() == null || student.getStudentId().isBlank()
+                || student.getDistrict() == null || student.getDistrict().isBlank()) {
+                throw new IllegalArgumentException("Every student needs an id and a district: " + student.getStudentId());
+            }
         }
+        return students.stream()
+            .collect(Collectors.groupingBy(Student::getDistrict))
+            .entrySet().stream()
+            .mapToInt(e -> {
+                int upserted = shardRouter.writeDistrict(e.getKey(),
+                    () -> studentBulkRepository.upsertStudents(e.getValue()));
+                studentLookupService.recordWrites(e.getValue());
+                LocalDateTime now = LocalDateTime.now();
+                interventionAnalyticsService.recordRiskScores(e.getValue().stream()
+                    .filter(student -> student.getRiskScore() != null)
+                    .map(student -> new InterventionAnalyticsService.RiskObservation(
+                        student.getStudentId(), student.getRiskScore(), now))
+                    .collect(Collectors.toList()));
+                return upserted;
+            })
+            .sum();
     }
     
     /**
      * Get student by ID
+     * Unknown IDs are answered by the lookup index (and its negative cache) without a database query
+     * and never reach the students cache.
      */
-    @Cacheable(value = "students", key = "#studentId")
+    @Transactional(readOnly = true)
     public Optional<Student> getStudentById(String studentId) {
-        return studentRepository.findByStudentId(studentId);
+        if (studentLookupService.find(studentId).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(studentLookupService.loadStudent(studentId));
     }
     
     /**
-     * Get risk score for student
+     * Get risk score for student; empty when the student does not exist
      */
-    public RiskScore getRiskScore(String studentId) {
-        Student student = studentRepository.findByStudentId(studentId)
-            .orElseThrow(() -> new RuntimeException("Student not found: " + studentId));
-        
-        return riskPredictionService.calculateRiskScore(student);
+    @Transactional(readOnly = true)
+    public Optional<RiskScore> getRiskScore(String studentId) {
+        return studentLookupService.find(studentId)
+            .map(riskPredictionService::calculateRiskScore);
     }
     
     /**
      * Get all at-risk students
      */
+    @Transactional(readOnly = true)
     public List<Student> getAtRiskStudents(Double threshold) {
         if (threshold == null) {
             threshold = riskPredictionService.getModerateRiskThreshold();
         }
-        return studentRepository.findHighRiskStudents(threshold);
+        Double effectiveThreshold = threshold;
+        return shardRouter.scatter(() -> studentRepository.findHighRiskStudents(effectiveThreshold))
+            .stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
     }
     
     /**
      * Get students by district
      */
-    @Cacheable(value = "districtStudents", key = "#district")
+    @Transactional(readOnly = true)
+    @Cacheable(value = "districtStudents", key = "#district", sync = true)
     public List<Student> getStudentsByDistrict(String district) {
-        return studentRepository.findByDistrict(district);
+        return shardRouter.readDistrict(district, () -> studentRepository.findByDistrict(district));
     }
     
     /**
      * Get district statistics
      */
-    @Cacheable(value = "districtStats", key = "#district")
+    @Transactional(readOnly = true)
+    @Cacheable(value = "districtStats", key = "#district", sync = true)
     public DistrictStats getDistrictStats(String district) {
-        List<Student> districtStudents = studentRepository.findByDistrict(district);
-        
-        long highRisk = districtStudents.stream()
-            .filter(s -> "High".equals(s.getDropoutRisk()))
-            .count();
-        
-        long moderateRisk = districtStudents.stream()
-            .filter(s -> "Moderate".equals(s.getDropoutRisk()))
-            .count();
+        return shardRouter.readDistrict(district, () -> computeDistrictStats(district));
+    }
+    
+    private DistrictStats computeDistrictStats(String district) {
+        Long interventionsActive = interventionRepository.countByDistrict(district);
+        return toDistrictStats(district, studentRepository.countRiskLevelsByDistrict(district),
+                               interventionsActive != null ? interventionsActive : 0L);
+    }
+    
+    /**
+     * Get statistics for every district from GROUP BY aggregates
+     */
+    @Transactional(readOnly = true)
+    public List<DistrictStats> getAllDistrictStats() {
+        Map<String, List<RiskLevelCount>> levelsByDistrict = shardRouter.scatter(studentRepository::countRiskLevels)
+            .stream()
+            .flatMap(List::stream)
+            .collect(Collectors.groupingBy(RiskLevelCount::getDistrict, TreeMap::new, Collectors.toList()));
+        Map<String, Long> interventionsByDistrict = new HashMap<>();
+        shardRouter.scatter(interventionRepository::countByDistrictGrouped)
+            .forEach(rows -> rows.stream()
+                .filter(row -> row.getDistrict() != null)
+                .forEach(row -> interventionsByDistrict.merge(row.getDistrict(), row.getTotal(), Long::sum)));
         
-        long lowRisk = districtStudents.stream()
-            .filter(s -> "Low".equals(s.getDropoutRisk()))
-            .count();
+        return levelsByDistrict.entrySet().stream()
+            .map(e -> toDistrictStats(e.getKey(), e.getValue(),
+                                      interventionsByDistrict.getOrDefault(e.getKey(), 0L)))
+            .collect(Collectors.toList());
+    }
+    
+    private DistrictStats toDistrictStats(String district, List<RiskLevelCount> levels, long interventionsActive) {
+        long total = 0;
+        long highRisk = 0;
+        long moderateRisk = 0;
+        long lowRisk = 0;
+        double riskScoreSum = 0.0;
+        long riskScoreCount = 0;
         
-        Double avgRiskScore = studentRepository.getAverageRiskScoreByDistrict(district);
-        Long interventionsActive = interventionRepository.countByDistrict(district);
+        for (RiskLevelCount level : levels) {
+            total += level.getStudents();
+            if ("High".equals(level.getRiskLevel())) {
+                highRisk += level.getStudents();
+            } else if ("Moderate".equals(level.getRiskLevel())) {
+                moderateRisk += level.getStudents();
+            } else if ("Low".equals(level.getRiskLevel())) {
+                lowRisk += level.getStudents();
+            }
+            if (level.getRiskScoreSum() != null) {
+                riskScoreSum += level.getRiskScoreSum();
+                riskScoreCount += level.getRiskScoreCount();
+            }
+        }
         
         DistrictStats stats = new DistrictStats();
         stats.setDistrict(district);
-        stats.setTotalStudents(districtStudents.size());
+        stats.setTotalStudents((int) total);
         stats.setHighRiskCount((int) highRisk);
         stats.setModerateRiskCount((int) moderateRisk);
         stats.setLowRiskCount((int) lowRisk);
-        stats.setAverageRiskScore(avgRiskScore != null ? avgRiskScore : 0.0);
-        stats.setInterventionsActive(interventionsActive != null ? interventionsActive.intValue() : 0);
+        stats.setAverageRiskScore(riskScoreCount > 0 ? riskScoreSum / riskScoreCount : 0.0);
+        stats.setInterventionsActive((int) interventionsActive);
         
         return stats;
     }
     
+    /**
+     * Get lightweight student rows for a district (no entity loading)
+     */
+    @Transactional(readOnly = true)
+    public List<StudentListRow> getDistrictRows(String district) {
+        return shardRouter.readDistrict(district, () -> studentRepository.findRowsByDistrict(district));
+    }
+    
+    /**
+     * Get lightweight at-risk rows (no entity loading), highest probability first
+     */
+    @Transactional(readOnly = true)
+    public List<AtRiskRow> getAtRiskRows(Double threshold) {
+        Double effectiveThreshold = threshold != null ? threshold : riskPredictionService.getModerateRiskThreshold();
+        List<List<AtRiskRow>> perShard = shardRouter.scatter(() -> studentRepository.findAtRiskRows(effectiveThreshold));
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        return perShard.stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(AtRiskRow::getRiskProbability,
+                                         Comparator.nullsLast(Comparator.reverseOrder())))
+            .collect(Collectors.toList());
+    }
+    
     /**
      * Log intervention
      */
     @Transactional
     public Intervention logIntervention(Intervention intervention) {
         // Get student to add district and risk score
-        studentRepository.findByStudentId(intervention.getStudentId())
+        studentLookupService.find(intervention.getStudentId())
             .ifPresent(student -> {
                 intervention.setDistrict(student.getDistrict());
                 intervention.setRiskScore(student.getRiskScore());
             });
         
-        return interventionRepository.save(intervention);
+        Intervention saved = shardRouter.writeDistrict(intervention.getDistrict(),
+            () -> interventionRepository.save(intervention));
+        eventPublisher.publishEvent(new InterventionLoggedEvent(saved));
+        return saved;
+    }
+    
+    /**
+     * Log a batch of interventions (JDBC fast path)
+     */
+    @CacheEvict(value = "districtStats", allEntries = true)
+    public int logInterventions(List<Intervention> interventions) {
+        // One lookup per shard for the whole batch instead of one per intervention
+        Set<String> studentIds = interventions.stream()
+            .map(Intervention::getStudentId)
+            .collect(Collectors.toSet());
+        Map<String, Student> students = new HashMap<>();
+        shardRouter.scatter(() -> studentRepository.findByStudentIdIn(studentIds))
+            .forEach(list -> list.forEach(s -> students.put(s.getStudentId(), s)));
+        
+        for (Intervention intervention : interventions) {
+            Student student = students.get(intervention.getStudentId());
+            if (student != null) {
+                intervention.setDistrict(student.getDistrict());
+                intervention.setRiskScore(student.getRiskScore());
+            }
+        }
+        
+        Map<String, List<Intervention>> byDistrict = new HashMap<>();
+        for (Intervention intervention : interventions) {
+            byDistrict.computeIfAbsent(intervention.getDistrict(), d -> new ArrayList<>())
+                .add(intervention);
+        }
+        int inserted = byDistrict.values().stream()
+            .mapToInt(batch -> shardRouter.writeDistrict(batch.get(0).getDistrict(),
+                () -> studentBulkRepository.insertInterventions(batch)))
+            .sum();
+        interventionAnalyticsService.recordInterventions(interventions);
+        return inserted;
     }
     
     /**
      * Get interventions
      */
+    @Transactional(readOnly = true)
     public Map<String, Object> getInterventions(String studentId, Integer limit) {
         List<Intervention> interventions;
         
         if (studentId != null && !studentId.isEmpty()) {
-            interventions = interventionRepository.findByStudentIdOrderByInterventionDateDesc(studentId);
+            interventions = mergeByDateDesc(shardRouter.scatter(
+                () -> interventionRepository.findByStudentIdOrderByInterventionDateDesc(studentId)));
         } else {
-            interventions = interventionRepository.findRecentInterventions();
+            interventions = mergeByDateDesc(shardRouter.scatter(
+                interventionRepository::findRecentInterventions));
         }
         
         if (limit != null && limit > 0) {
@@ -202,7 +388,9 @@ public class StudentService {
         }
         
         Map<String, Object> result = new HashMap<>();
-        result.put("total", interventionRepository.count());
+        result.put("total", shardRouter.scatter(interventionRepository::count).stream()
+            .mapToLong(Long::longValue)
+            .sum());
         result.put("showing", interventions.size());
         result.put("interventions", interventions);
         
@@ -212,18 +400,34 @@ public class StudentService {
     /**
      * Get intervention by ID
      */
+    @Transactional(readOnly = true)
     public Optional<Intervention> getInterventionById(Long id) {
-        return interventionRepository.findById(id);
+        // Each shard allocates intervention ids from its own range, so the id names the shard
+        Optional<Intervention> intervention = shardRouter.readById(id, () -> interventionRepository.findById(id));
+        return intervention != null ? intervention : Optional.empty();
     }
     
     /**
      * Get model metrics
      */
+    @Transactional(readOnly = true)
     public ModelMetrics getModelMetrics() {
-        long totalStudents = studentRepository.count();
-        long highRisk = studentRepository.countByDropoutRisk("High");
-        long moderateRisk = studentRepository.countByDropoutRisk("Moderate");
-        long lowRisk = studentRepository.countByDropoutRisk("Low");
+        long totalStudents = 0;
+        long highRisk = 0;
+        long moderateRisk = 0;
+        long lowRisk = 0;
+        for (List<RiskLevelCount> levels : shardRouter.scatter(studentRepository::countRiskLevels)) {
+            for (RiskLevelCount level : levels) {
+                totalStudents += level.getStudents();
+                if ("High".equals(level.getRiskLevel())) {
+                    highRisk += level.getStudents();
+                } else if ("Moderate".equals(level.getRiskLevel())) {
+                    moderateRisk += level.getStudents();
+                } else if ("Low".equals(level.getRiskLevel())) {
+                    lowRisk += level.getStudents();
+                }
+            }
+        }
         
         Map<String, Integer> riskDistribution = new HashMap<>();
         riskDistribution.put("high_risk", (int) highRisk);
@@ -244,7 +448,24 @@ public class StudentService {
     /**
      * Get all districts
      */
+    @Transactional(readOnly = true)
     public List<String> getAllDistricts() {
-        return studentRepository.findAllDistricts();
+        return shardRouter.scatter(studentRepository::findAllDistricts).stream()
+            .flatMap(List::stream)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Merge per-shard intervention lists, newest first
+     */
+    private List<Intervention> mergeByDateDesc(List<List<Intervention>> perShard) {
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        return perShard.stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(Intervention::getInterventionDate).reversed())
+            .collect(Collectors.toList());
     }
 }
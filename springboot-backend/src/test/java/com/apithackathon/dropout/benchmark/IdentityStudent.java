@@ -0,0 +1,60 @@
+package com.apithackathon.dropout.benchmark;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Identity Student - Student columns with an IDENTITY key, the write path before pooled sequences
+ * Hibernate must insert IDENTITY rows one at a time to learn each id, so JDBC batching is off.
+ * Only mapped on the benchmark's test classpath.
+ */
+@Entity
+@Table(name = "benchmark_identity_students")
+@Data
+@NoArgsConstructor
+public class IdentityStudent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "student_id", nullable = false, unique = true, length = 50)
+    private String studentId;
+    
+    @Column(nullable = false, length = 100)
+    private String district;
+    
+    @Column(name = "attendance_rate", nullable = false)
+    private Double attendanceRate;
+    
+    @Column(name = "exam_score", nullable = false)
+    private Double examScore;
+    
+    @Column(name = "socio_economic_status", nullable = false, length = 20)
+    private String socioEconomicStatus;
+    
+    @Column(name = "transport_allowance_used", nullable = false)
+    private Boolean transportAllowanceUsed;
+    
+    @Column(name = "migration_indicator", nullable = false)
+    private Integer migrationIndicator;
+    
+    @Column(nullable = false, length = 10)
+    private String gender;
+    
+    @Column(name = "social_category", nullable = false, length = 20)
+    private String socialCategory;
+    
+    @Column(name = "dropout_risk", nullable = false, length = 20)
+    private String dropoutRisk;
+    
+    @Column(name = "risk_probability")
+    private Double riskProbability;
+    
+    @Column(name = "risk_score")
+    private Double riskScore;
+    
+    @Column(name = "predicted_label", length = 20)
+    private String predictedLabel;
+}
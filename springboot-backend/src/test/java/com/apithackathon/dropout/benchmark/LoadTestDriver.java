@@ -0,0 +1,571 @@
+package com.apithackathon.dropout.benchmark;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load Test Driver - Load and soak runs against the REST API with a seeded synthetic population
+ * Runs in its own JVM so client allocation and GC stay out of the server's numbers:
+ *   mvn -Pload-test test-compile exec:exec \
+ *       -Dload.args="--population=1m --populate=true --duration=10m"
+ * Reports throughput and p50/p99/p99.9 latency per operation every report interval and at the end,
+ * plus client and server GC. With --rate the load is open-loop and latency is measured from each
+ * request's scheduled start, so server stalls are not hidden by the driver backing off.
+ */
+public class LoadTestDriver {
+    
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final String[] INTERVENTION_TYPES = {"Counseling", "Transport", "Scholarship", "Parent meeting", "Remedial class"};
+    
+    private final Map<String, String> options;
+    private final String baseUrl;
+    private final SyntheticPopulation population;
+    private final HttpClient client;
+    private final List<Operation> operations = new ArrayList<>();
+    private final int clientAddresses;
+    private final AtomicLong clientSequence = new AtomicLong();
+    
+    /**
+     * Operation - One request type in the mix, with its weight and latency recorders
+     */
+    private static final class Operation {
+        final String name;
+        final int weight;
+        final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder shed = new LongAdder();
+        Histogram interval;
+        
+        Operation(String name, int weight) {
+            this.name = name;
+            this.weight = weight;
+        }
+    }
+    
+    public LoadTestDriver(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("base-url", "http://localhost:8080").replaceAll("/+$", "");
+        this.population = new SyntheticPopulation(
+            Long.parseLong(option("seed", "42")), SyntheticPopulation.parseSize(option("population", "10k")));
+        this.clientAddresses = Integer.parseInt(option("client-addresses", "0"));
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors())))
+            .build();
+        
+        for (String entry : option("mix", "dashboard:60,lookup:20,intervention:15,leap:5").split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (!List.of("dashboard", "lookup", "intervention", "leap").contains(parts[0])) {
+                throw new IllegalArgumentException("Unknown operation in --mix: " + parts[0]);
+            }
+            operations.add(new Operation(parts[0], Integer.parseInt(parts[1])));
+        }
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int eq = arg.indexOf('=');
+                options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+            }
+        }
+        try {
+            new LoadTestDriver(options).run();
+        } catch (Exception e) {
+            e.printStackTrace();
+            // Worker and HTTP client threads would otherwise keep the JVM alive
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+    
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+    
+    public void run() throws Exception {
+        if (options.containsKey("dataset-file")) {
+            writeDataset(Path.of(option("dataset-file", "")));
+            if (Boolean.parseBoolean(option("generate-only", "false"))) {
+                return;
+            }
+        }
+        if (Boolean.parseBoolean(option("populate", "false"))) {
+            populate();
+        }
+        
+        int concurrency = Integer.parseInt(option("concurrency", "16"));
+        double rate = Double.parseDouble(option("rate", "0"));
+        Duration warmup = parseDuration(option("warmup", "30s"));
+        Duration duration = parseDuration(option("duration", "2m"));
+        Duration reportInterval = parseDuration(option("report-interval", "10s"));
+        
+        System.out.printf("Load: %s, population %,d (seed %s), %d workers, %s, warmup %s, measure %s%n",
+                          baseUrl, population.size(), option("seed", "42"), concurrency,
+                          rate > 0 ? String.format("open loop %.0f req/s", rate) : "closed loop",
+                          warmup, duration);
+        
+        Map<String, Double> serverGcBefore = serverGc();
+        Map<String, long[]> clientGcBefore = clientGc();
+        
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        AtomicLong ticket = new AtomicLong();
+        
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < concurrency; w++) {
+            futures.add(workers.submit(() -> work(start, end, rate, ticket)));
+        }
+        
+        List<Map<String, Object>> intervals = new ArrayList<>();
+        boolean measuring = warmup.isZero();
+        long intervalStart = start;
+        while (System.nanoTime() < end) {
+            long next = Math.min(intervalStart + reportInterval.toNanos(), measuring ? end : measureFrom);
+            LockSupport.parkNanos(next - System.nanoTime());
+            long now = System.nanoTime();
+            for (Operation op : operations) {
+                op.interval = op.recorder.getIntervalHistogram(op.interval);
+                if (measuring) {
+                    op.total.add(op.interval);
+                }
+            }
+            Map<String, Object> row = intervalReport(measuring ? "measure" : "warmup", now - intervalStart,
+                                                     (now - start) / 1_000_000_000.0);
+            if (measuring) {
+                // Soak runs: heap after each interval shows whether the server's live set drifts
+                row.put("serverHeapUsedBytes", serverMetric("jvm.memory.used", "area:heap", "VALUE"));
+                intervals.add(row);
+            } else if (now >= measureFrom) {
+                measuring = true;
+                resetCounters();
+            }
+            intervalStart = now;
+        }
+        
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+        
+        Map<String, Object> report = finalReport(duration, concurrency, rate, intervals,
+                                                 serverGcBefore, serverGc(), clientGcBefore, clientGc());
+        String reportFile = option("report-file", "");
+        if (!reportFile.isEmpty()) {
+            MAPPER.writeValue(Path.of(reportFile).toFile(), report);
+            System.out.println("Report written to " + reportFile);
+        }
+    }
+    
+    /**
+     * Worker loop; open-loop workers take the next slot of a fixed schedule shared by all workers
+     */
+    private void work(long start, long end, double rate, AtomicLong ticket) {
+        int totalWeight = operations.stream().mapToInt(op -> op.weight).sum();
+        long workerNo = clientSequence.getAndIncrement();
+        String clientAddress = clientAddresses > 0
+            ? "10.0." + (workerNo % clientAddresses / 250) + "." + (workerNo % clientAddresses % 250 + 1)
+            : null;
+        while (true) {
+            long intended;
+            if (rate > 0) {
+                intended = start + (long) (ticket.getAndIncrement() * 1_000_000_000.0 / rate);
+                if (intended >= end) {
+                    return;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                intended = System.nanoTime();
+                if (intended >= end) {
+                    return;
+                }
+            }
+            
+            int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+            Operation op = operations.get(0);
+            for (Operation candidate : operations) {
+                if ((pick -= candidate.weight) < 0) {
+                    op = candidate;
+                    break;
+                }
+            }
+            
+            try {
+                int status = send(op.name, clientAddress);
+                if (status == 429 || status == 503) {
+                    op.shed.increment();
+                } else if (status >= 400 && !(status == 404 && op.name.equals("lookup"))) {
+                    op.errors.increment();
+                }
+            } catch (Exception e) {
+                op.errors.increment();
+            }
+            op.recorder.recordValue(Math.min(HIGHEST_TRACKABLE_NANOS, System.nanoTime() - intended));
+        }
+    }
+    
+    private int send(String operation, String clientAddress) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long index = random.nextLong(population.size());
+        String district = population.district(index);
+        HttpRequest.Builder request;
+        
+        switch (operation) {
+            case "dashboard" -> {
+                String[] paths = {
+                    "/api/districts/summary",
+                    "/api/districts/" + encode(district) + "/stats",
+                    "/api/students/at-risk/rows?threshold=" + (50 + random.nextInt(4) * 5),
+                    "/api/model/metrics"
+                };
+                request = get(paths[random.nextInt(paths.length)]);
+            }
+            case "lookup" -> {
+                // 1 in 20 lookups is for an ID outside the population (404, exercises the negative path)
+                String id = random.nextInt(20) == 0
+                    ? SyntheticPopulation.studentId(population.size() + index)
+                    : SyntheticPopulation.studentId(index);
+                request = get("/api/students/" + id);
+            }
+            case "intervention" -> {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("studentId", SyntheticPopulation.studentId(index));
+                body.put("type", INTERVENTION_TYPES[random.nextInt(INTERVENTION_TYPES.length)]);
+                body.put("description", "Load test intervention");
+                body.put("actionedBy", "load-test");
+                body.put("district", district);
+                request = post("/api/interventions", MAPPER.writeValueAsBytes(body));
+            }
+            default -> {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("student_id", SyntheticPopulation.studentId(index));
+                body.put("district", district);
+                body.put("field_worker", "FW-" + random.nextInt(500));
+                body.put("visit_type", "home_visit");
+                body.put("attendance_rate", Math.round(random.nextDouble(30, 98) * 10) / 10.0);
+                body.put("notes", "Follow-up visit");
+                request = post("/api/leap/field-update", MAPPER.writeValueAsBytes(body));
+            }
+        }
+        if (clientAddress != null) {
+            request.header("X-Forwarded-For", clientAddress);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+    
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Accept", "application/json")
+            .GET();
+    }
+    
+    private HttpRequest.Builder post(String path, byte[] body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+    }
+    
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Load the synthetic population through POST /api/students/bulk
+     */
+    private void populate() throws Exception {
+        int chunkSize = Integer.parseInt(option("populate-chunk", "1000"));
+        int parallelism = Integer.parseInt(option("populate-concurrency", "4"));
+        long chunks = (population.size() + chunkSize - 1) / chunkSize;
+        AtomicLong nextChunk = new AtomicLong();
+        LongAdder upserted = new LongAdder();
+        long started = System.nanoTime();
+        
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < parallelism; p++) {
+            futures.add(pool.submit(() -> {
+                long chunk;
+                while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                    long from = chunk * chunkSize;
+                    long to = Math.min(population.size(), from + chunkSize);
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream(chunkSize * 320);
+                    try (JsonGenerator json = MAPPER.getFactory().createGenerator(buffer, JsonEncoding.UTF8)) {
+                        json.writeStartArray();
+                        for (long i = from; i < to; i++) {
+                            population.write(i, json, true);
+                        }
+                        json.writeEndArray();
+                    }
+                    HttpResponse<byte[]> response = sendWithRetry(
+                        post("/api/students/bulk", buffer.toByteArray()).timeout(Duration.ofMinutes(5)).build());
+                    if (response.statusCode() >= 300) {
+                        throw new IOException("Bulk upsert failed with HTTP " + response.statusCode() + ": "
+                                              + new String(response.body(), StandardCharsets.UTF_8));
+                    }
+                    JsonNode result = MAPPER.readTree(response.body());
+                    upserted.add(result.path("upserted").asLong(to - from));
+                    if (chunk % 100 == 0) {
+                        System.out.printf("  populated %,d / %,d%n", to, population.size());
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        System.out.printf("Populated %,d students in %.1fs (%,.0f rows/s)%n",
+                          upserted.sum(), seconds, upserted.sum() / seconds);
+    }
+    
+    /**
+     * Bulk loads back off and retry when admission control sheds them
+     */
+    private HttpResponse<byte[]> sendWithRetry(HttpRequest request) throws IOException, InterruptedException {
+        long backoff = 100;
+        while (true) {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 429 && response.statusCode() != 503) {
+                return response;
+            }
+            Thread.sleep(backoff);
+            backoff = Math.min(5000, backoff * 2);
+        }
+    }
+    
+    /**
+     * Stream the population to a file in the dataset_kaggle.json layout
+     */
+    private void writeDataset(Path file) throws IOException {
+        long started = System.nanoTime();
+        try (OutputStream out = Files.newOutputStream(file);
+             JsonGenerator json = MAPPER.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            population.writeDataset(json);
+        }
+        System.out.printf("Wrote %,d students to %s in %.1fs%n", population.size(), file,
+                          (System.nanoTime() - started) / 1_000_000_000.0);
+    }
+    
+    private void resetCounters() {
+        for (Operation op : operations) {
+            op.errors.reset();
+            op.shed.reset();
+        }
+    }
+    
+    private Map<String, Object> intervalReport(String phase, long elapsedNanos, double atSeconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("phase", phase);
+        row.put("atSeconds", Math.round(atSeconds));
+        StringBuilder line = new StringBuilder(String.format("[%6.0fs %-7s]", atSeconds, phase));
+        long requests = 0;
+        for (Operation op : operations) {
+            Histogram h = op.interval;
+            requests += h.getTotalCount();
+            row.put(op.name, latencies(h, elapsedNanos));
+            line.append(String.format(" %s %,.0f/s p99 %.1fms |", op.name,
+                                      h.getTotalCount() * 1e9 / elapsedNanos, millis(h.getValueAtPercentile(99))));
+        }
+        row.put("throughput", requests * 1e9 / elapsedNanos);
+        System.out.println(line.append(String.format(" total %,.0f/s", requests * 1e9 / elapsedNanos)));
+        return row;
+    }
+    
+    private Map<String, Object> finalReport(Duration duration, int concurrency, double rate,
+                                            List<Map<String, Object>> intervals,
+                                            Map<String, Double> serverGcBefore, Map<String, Double> serverGcAfter,
+                                            Map<String, long[]> clientGcBefore, Map<String, long[]> clientGcAfter) {
+        long elapsedNanos = duration.toNanos();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("baseUrl", baseUrl);
+        report.put("population", population.size());
+        report.put("seed", Long.parseLong(option("seed", "42")));
+        report.put("concurrency", concurrency);
+        report.put("mode", rate > 0 ? "open" : "closed");
+        report.put("targetRate", rate);
+        report.put("durationSeconds", duration.toSeconds());
+        
+        System.out.println();
+        System.out.printf("%-14s %10s %10s %9s %9s %9s %9s %8s %8s%n",
+                          "operation", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "shed");
+        Map<String, Object> perOperation = new LinkedHashMap<>();
+        long requests = 0;
+        for (Operation op : operations) {
+            Histogram h = op.total;
+            requests += h.getTotalCount();
+            Map<String, Object> stats = latencies(h, elapsedNanos);
+            stats.put("errors", op.errors.sum());
+            stats.put("shed", op.shed.sum());
+            perOperation.put(op.name, stats);
+            System.out.printf("%-14s %,10d %,10.0f %9.2f %9.2f %9.2f %9.2f %,8d %,8d%n", op.name,
+                              h.getTotalCount(), h.getTotalCount() * 1e9 / elapsedNanos,
+                              millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+                              millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()),
+                              op.errors.sum(), op.shed.sum());
+        }
+        report.put("throughput", requests * 1e9 / elapsedNanos);
+        report.put("operations", perOperation);
+        System.out.printf("%-14s %,10d %,10.0f%n", "total", requests, requests * 1e9 / elapsedNanos);
+        
+        Map<String, Object> serverGcReport = new LinkedHashMap<>();
+        if (!serverGcBefore.isEmpty() && !serverGcAfter.isEmpty()) {
+            double pauses = serverGcAfter.get("COUNT") - serverGcBefore.get("COUNT");
+            double pauseSeconds = serverGcAfter.get("TOTAL_TIME") - serverGcBefore.get("TOTAL_TIME");
+            serverGcReport.put("pauses", (long) pauses);
+            serverGcReport.put("pauseTimeMs", pauseSeconds * 1000);
+            serverGcReport.put("maxPauseMs", serverGcAfter.get("MAX") * 1000);
+            serverGcReport.put("pauseTimeRatio", pauseSeconds / duration.toSeconds());
+            System.out.printf("Server GC: %d pauses, %.0f ms total (%.2f%% of run), max %.1f ms (recent window)%n",
+                              (long) pauses, pauseSeconds * 1000, 100 * pauseSeconds / duration.toSeconds(),
+                              serverGcAfter.get("MAX") * 1000);
+        } else {
+            System.out.println("Server GC: unavailable (expose the metrics actuator endpoint)");
+        }
+        report.put("serverGc", serverGcReport);
+        
+        Map<String, Object> clientGcReport = new LinkedHashMap<>();
+        clientGcAfter.forEach((name, after) -> {
+            long[] before = clientGcBefore.getOrDefault(name, new long[2]);
+            clientGcReport.put(name, Map.of("collections", after[0] - before[0], "timeMs", after[1] - before[1]));
+        });
+        System.out.println("Client GC: " + clientGcReport);
+        report.put("clientGc", clientGcReport);
+        report.put("intervals", intervals);
+        return report;
+    }
+    
+    private static Map<String, Object> latencies(Histogram h, long elapsedNanos) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", h.getTotalCount());
+        stats.put("throughput", h.getTotalCount() * 1e9 / elapsedNanos);
+        stats.put("p50Ms", millis(h.getValueAtPercentile(50)));
+        stats.put("p99Ms", millis(h.getValueAtPercentile(99)));
+        stats.put("p999Ms", millis(h.getValueAtPercentile(99.9)));
+        stats.put("maxMs", millis(h.getMaxValue()));
+        return stats;
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+    
+    /**
+     * Server GC pause totals from /actuator/metrics/jvm.gc.pause (COUNT, TOTAL_TIME in s, MAX in s)
+     */
+    private Map<String, Double> serverGc() {
+        Map<String, Double> values = new HashMap<>();
+        try {
+            HttpResponse<byte[]> response = client.send(get("/actuator/metrics/jvm.gc.pause").build(),
+                                                        HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 200) {
+                for (JsonNode m : MAPPER.readTree(response.body()).path("measurements")) {
+                    values.put(m.path("statistic").asText(), m.path("value").asDouble());
+                }
+            } else if (response.statusCode() == 404) {
+                // No pause recorded yet
+                values.put("COUNT", 0.0);
+                values.put("TOTAL_TIME", 0.0);
+                values.put("MAX", 0.0);
+            }
+        } catch (Exception e) {
+            values.clear();
+        }
+        return values;
+    }
+    
+    private Double serverMetric(String metric, String tag, String statistic) {
+        try {
+            HttpResponse<byte[]> response = client.send(get("/actuator/metrics/" + metric + "?tag=" + tag).build(),
+                                                        HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 200) {
+                for (JsonNode m : MAPPER.readTree(response.body()).path("measurements")) {
+                    if (statistic.equals(m.path("statistic").asText())) {
+                        return m.path("value").asDouble();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // Soak reports simply omit heap samples the server does not expose
+        }
+        return null;
+    }
+    
+    /**
+     * Collector name -> {collections, time ms} for this JVM
+     */
+    private static Map<String, long[]> clientGc() {
+        Map<String, long[]> values = new LinkedHashMap<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            values.put(gc.getName(), new long[] {gc.getCollectionCount(), gc.getCollectionTime()});
+        }
+        return values;
+    }
+    
+    /**
+     * "90s", "10m", "2h" or plain seconds
+     */
+    static Duration parseDuration(String value) {
+        String v = value.trim().toLowerCase();
+        if (v.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(v.substring(0, v.length() - 2)));
+        }
+        char unit = v.charAt(v.length() - 1);
+        if (Character.isDigit(unit)) {
+            return Duration.ofSeconds(Long.parseLong(v));
+        }
+        long amount = Long.parseLong(v.substring(0, v.length() - 1));
+        return switch (unit) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unknown duration: " + value);
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package com.apithackathon.dropout.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic Population - Seeded students with the dataset_kaggle.json schema and marginals
+ * Student i is derived from (seed, i) alone, so any slice of a 10k/1M/10M population can be
+ * regenerated without holding it in memory, and two runs with the same seed are identical.
+ * Marginals follow the Kaggle dataset (5 districts, ~65% female, ~25% transport use,
+ * ~55% migrant, attendance ~N(84, 15.5)); dropout_risk is drawn from the 7-factor points
+ * plus noise, calibrated to roughly the dataset's 26% Low / 50% Moderate / 23% High.
+ */
+public class SyntheticPopulation {
+    
+    static final String[] DISTRICTS = {"Visakhapatnam", "Vijayawada", "Guntur", "Tirupati", "Kakinada"};
+    private static final String[] OCCUPATIONS = {
+        "Daily wage laborer", "Government employee", "Agricultural worker", "Teacher", "Business owner",
+        "Factory worker", "Driver", "Unemployed", "Shopkeeper", "Private employee"
+    };
+    private static final String[] CATEGORIES = {"General", "OBC", "SC", "ST"};
+    
+    private final long seed;
+    private final long size;
+    
+    public SyntheticPopulation(long seed, long size) {
+        this.seed = seed;
+        this.size = size;
+    }
+    
+    /**
+     * Population size from "10k", "1m", "10m" or a plain number
+     */
+    public static long parseSize(String size) {
+        String s = size.trim().toLowerCase();
+        if (s.endsWith("k")) {
+            return Long.parseLong(s.substring(0, s.length() - 1)) * 1_000L;
+        }
+        if (s.endsWith("m")) {
+            return Long.parseLong(s.substring(0, s.length() - 1)) * 1_000_000L;
+        }
+        return Long.parseLong(s);
+    }
+    
+    public long size() {
+        return size;
+    }
+    
+    public static String studentId(long index) {
+        return String.format("SY%08d", index + 1);
+    }
+    
+    public String district(long index) {
+        return DISTRICTS[(int) (index % DISTRICTS.length)];
+    }
+    
+    /**
+     * Write student i as a JSON object
+     * apiShape: field names accepted by POST /api/students/bulk ("id"), else dataset names ("student_id")
+     */
+    public void write(long index, JsonGenerator json, boolean apiShape) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + index);
+        
+        double attendance = round1(clamp(84 + random.nextGaussian() * 15.5, 30, 98));
+        double exam = round1(clamp(56 + random.nextGaussian() * 16.6, 25, 92.9));
+        double ses = random.nextDouble();
+        String socioEconomic = ses < 0.36 ? "Low" : ses < 0.65 ? "Medium" : "High";
+        boolean transport = random.nextDouble() < 0.25;
+        boolean migrant = random.nextDouble() < 0.55;
+        boolean female = random.nextDouble() < 0.65;
+        String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        
+        double points = (attendance < 60 ? 30 : attendance < 75 ? 15 : 0)
+            + (exam < 45 ? 25 : exam < 65 ? 12 : 0)
+            + ("Low".equals(socioEconomic) ? 15 : "Medium".equals(socioEconomic) ? 7 : 0)
+            + (transport ? 0 : 10)
+            + (migrant ? 10 : 0)
+            + (female ? 5 : 0)
+            + ("SC".equals(category) || "ST".equals(category) ? 5 : 0);
+        double noisy = points + random.nextGaussian() * 6;
+        String dropoutRisk = noisy < 33 ? "Low" : noisy < 56 ? "Moderate" : "High";
+        
+        json.writeStartObject();
+        json.writeStringField(apiShape ? "id" : "student_id", studentId(index));
+        json.writeStringField("district", district(index));
+        if (!apiShape) {
+            json.writeNumberField("grade", 8 + random.nextInt(3));
+            json.writeNumberField("age", 18 + (int) Math.min(32, -Math.log(1 - random.nextDouble()) * 2.5));
+        }
+        json.writeStringField("gender", female ? "Female" : "Male");
+        json.writeNumberField("attendance_rate", attendance);
+        json.writeNumberField("exam_score", exam);
+        json.writeStringField("socio_economic_status", socioEconomic);
+        json.writeBooleanField("transport_allowance_used", transport);
+        if (apiShape) {
+            json.writeNumberField("migration_indicator", migrant ? 1 : 0);
+        } else {
+            json.writeBooleanField("migration_indicator", migrant);
+        }
+        json.writeStringField("social_category", category);
+        if (!apiShape) {
+            json.writeStringField("parent_occupation", OCCUPATIONS[random.nextInt(OCCUPATIONS.length)]);
+            json.writeNumberField("distance_to_school_km", (double) (2 + random.nextInt(12)));
+            json.writeNumberField("previous_grade_failures", random.nextDouble() < 0.124 ? 1 : 0);
+        }
+        json.writeStringField("dropout_risk", dropoutRisk);
+        json.writeEndObject();
+    }
+    
+    /**
+     * Write the whole population in the dataset_kaggle.json layout
+     */
+    public void writeDataset(JsonGenerator json) throws IOException {
+        json.writeStartObject();
+        json.writeObjectFieldStart("metadata");
+        json.writeStringField("dataset_name", "Synthetic population (seed " + seed + ")");
+        json.writeNumberField("total_students", size);
+        json.writeArrayFieldStart("districts");
+        for (String district : DISTRICTS) {
+            json.writeString(district);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeArrayFieldStart("students");
+        for (long i = 0; i < size; i++) {
+            write(i, json, false);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+    
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+    
+    private static double round1(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
@@ -0,0 +1,149 @@
+package com.apithackathon.dropout.benchmark;
+
+import com.apithackathon.dropout.model.Intervention;
+import com.apithackathon.dropout.model.Student;
+import com.apithackathon.dropout.repository.InterventionRepository;
+import com.apithackathon.dropout.repository.StudentBulkRepository;
+import com.apithackathon.dropout.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Write Benchmark - Rows/sec for IDENTITY inserts (before), JPA batched writes and the JDBC fast path
+ * Not picked up by a plain mvn test; run with: mvn test -Dtest=WriteBenchmark
+ * (add -Dspring.profiles.active=prod and a scratch database URL to run against PostgreSQL).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+                properties = {"spring.profiles.include=benchmark", "spring.jpa.hibernate.ddl-auto=update"})
+@Slf4j
+class WriteBenchmark {
+    
+    private static final String[] DISTRICTS = {"Visakhapatnam", "Vijayawada", "Guntur", "Tirupati", "Kakinada"};
+    
+    @Autowired
+    private StudentRepository studentRepository;
+    
+    @Autowired
+    private InterventionRepository interventionRepository;
+    
+    @Autowired
+    private StudentBulkRepository studentBulkRepository;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${app.benchmark.rows:50000}")
+    private int rows;
+    
+    @Value("${app.benchmark.chunk-size:1000}")
+    private int chunkSize;
+    
+    @Test
+    void writeThroughput() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        
+        List<Student> identityStudents = students("BI", rows);
+        List<Student> jpaStudents = students("BJ", rows);
+        List<Student> jdbcStudents = students("BD", rows);
+        List<Intervention> jpaInterventions = interventions(jpaStudents);
+        List<Intervention> jdbcInterventions = interventions(jdbcStudents);
+        
+        report("IDENTITY student insert (before)", rows, () ->
+            chunked(identityStudents, chunk -> tx.executeWithoutResult(s -> chunk.forEach(student ->
+                entityManager.persist(identityStudent(student))))));
+        report("JPA student insert", rows, () ->
+            chunked(jpaStudents, chunk -> tx.executeWithoutResult(s -> studentRepository.saveAll(chunk))));
+        report("JDBC student upsert (insert)", rows, () ->
+            chunked(jdbcStudents, studentBulkRepository::upsertStudents));
+        report("JDBC student upsert (update)", rows, () ->
+            chunked(jdbcStudents, studentBulkRepository::upsertStudents));
+        report("JPA intervention insert", rows, () ->
+            chunked(jpaInterventions, chunk -> tx.executeWithoutResult(s -> interventionRepository.saveAll(chunk))));
+        report("JDBC intervention insert", rows, () ->
+            chunked(jdbcInterventions, studentBulkRepository::insertInterventions));
+    }
+    
+    private <T> void chunked(List<T> items, Consumer<List<T>> writer) {
+        for (int i = 0; i < items.size(); i += chunkSize) {
+            writer.accept(items.subList(i, Math.min(i + chunkSize, items.size())));
+        }
+    }
+    
+    private void report(String name, int count, Runnable work) {
+        long start = System.nanoTime();
+        work.run();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("📈 {}: {} rows in {} s = {} rows/sec", name, count,
+                 String.format("%.2f", seconds), String.format("%.0f", count / seconds));
+    }
+    
+    /**
+     * Synthetic students with the Kaggle dataset's value ranges (fixed seed)
+     */
+    private List<Student> students(String prefix, int count) {
+        Random random = new Random(42);
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Student s = new Student();
+            s.setStudentId(String.format("%s%07d", prefix, i));
+            s.setDistrict(DISTRICTS[random.nextInt(DISTRICTS.length)]);
+            s.setAttendanceRate(40 + random.nextDouble() * 60);
+            s.setExamScore(20 + random.nextDouble() * 80);
+            s.setSocioEconomicStatus(new String[] {"Low", "Medium", "High"}[random.nextInt(3)]);
+            s.setTransportAllowanceUsed(random.nextBoolean());
+            s.setMigrationIndicator(random.nextInt(4) == 0 ? 1 : 0);
+            s.setGender(random.nextBoolean() ? "Male" : "Female");
+            s.setSocialCategory(new String[] {"General", "OBC", "SC", "ST"}[random.nextInt(4)]);
+            s.setDropoutRisk(new String[] {"Low", "Moderate", "High"}[random.nextInt(3)]);
+            s.setRiskScore(random.nextDouble() * 100);
+            s.setRiskProbability(s.getRiskScore());
+            students.add(s);
+        }
+        return students;
+    }
+    
+    private static IdentityStudent identityStudent(Student s) {
+        IdentityStudent row = new IdentityStudent();
+        row.setStudentId(s.getStudentId());
+        row.setDistrict(s.getDistrict());
+        row.setAttendanceRate(s.getAttendanceRate());
+        row.setExamScore(s.getExamScore());
+        row.setSocioEconomicStatus(s.getSocioEconomicStatus());
+        row.setTransportAllowanceUsed(s.getTransportAllowanceUsed());
+        row.setMigrationIndicator(s.getMigrationIndicator());
+        row.setGender(s.getGender());
+        row.setSocialCategory(s.getSocialCategory());
+        row.setDropoutRisk(s.getDropoutRisk());
+        row.setRiskScore(s.getRiskScore());
+        row.setRiskProbability(s.getRiskProbability());
+        return row;
+    }
+    
+    private List<Intervention> interventions(List<Student> students) {
+        List<Intervention> interventions = new ArrayList<>(students.size());
+        for (Student s : students) {
+            Intervention i = new Intervention();
+            i.setStudentId(s.getStudentId());
+            i.setType("Counseling");
+            i.setDistrict(s.getDistrict());
+            i.setRiskScore(s.getRiskScore());
+            i.setStatus("pending");
+            interventions.add(i);
+        }
+        return interventions;
+    }
+}